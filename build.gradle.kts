@@ -6,6 +6,7 @@ plugins {
     signing
 
     id("com.vanniktech.maven.publish") version "0.31.0"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "one.tranic"
@@ -30,6 +31,15 @@ dependencies {
     compileOnly("one.tranic:t-utils:1.3.0")
 
     compileOnly("org.jetbrains:annotations:24.1.0")
+
+    testImplementation(platform("org.junit:junit-bom:5.11.4"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    testImplementation("org.yaml:snakeyaml:2.4")
+    testImplementation("com.google.code.gson:gson:2.13.0")
+    testImplementation("org.jetbrains:annotations:24.1.0")
+    testImplementation("net.kyori:adventure-api:4.21.0")
+    testImplementation("net.kyori:adventure-text-minimessage:4.21.0")
 }
 
 val targetJavaVersion = 17
@@ -46,6 +56,14 @@ tasks.withType<JavaCompile> {
     options.release = targetJavaVersion
 }
 
+tasks.test {
+    useJUnitPlatform()
+}
+
+jmh {
+    profilers.add("gc")
+}
+
 tasks.withType<ProcessResources> {
     filteringCharset = Charsets.UTF_8.name()
 }
@@ -0,0 +1,67 @@
+package one.tranic.t.i18n.loader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link BaseI18n#PROPERTIES} against {@link Properties#load(java.io.Reader)} followed by the copy
+ * into a map the loader used to make.
+ * <p>
+ * Run with {@code ./gradlew jmh}, the gc profiler reports the bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class PropertiesBenchmark {
+    @Param({"20000"})
+    private int entries;
+
+    private byte[] file;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder("# generated\n");
+        for (int i = 0; i < entries; i++) {
+            sb.append("menu.section").append(i % 100).append(".item").append(i)
+                    .append(" = Item number ").append(i).append(" costs {} gold, \\\n    buy it with <click>\\u00e9</click>\n");
+        }
+        file = sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Map<String, String> properties() throws IOException {
+        Properties properties = new Properties();
+        properties.load(new InputStreamReader(new ByteArrayInputStream(file), StandardCharsets.UTF_8));
+        Map<String, String> result = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            result.put(key, properties.getProperty(key));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<String, String> parser() throws IOException {
+        return BaseI18n.PROPERTIES.load(new ByteArrayInputStream(file));
+    }
+}
@@ -1,6 +1,7 @@
 package one.tranic.t.i18n;
 
 import one.tranic.t.i18n.loader.I18n;
+import one.tranic.t.i18n.loader.Source;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -10,6 +11,7 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -36,13 +38,19 @@ public class BaseLoader {
         v1 = v2;
     }
 
-    private final @NotNull Map<String, String> language;
     private final @Nullable String namespace;
     private final @Nullable Path path;
     private final @Nullable File file;
     private final @NotNull I18n adaptar;
     private final @Nullable Class<?> clazz;
+    private final @NotNull List<Source> layers;
     private @Nullable Locale locale;
+    private volatile @NotNull Bundle bundle = Bundle.EMPTY;
+    private @NotNull StorageMode storageMode = StorageMode.HEAP;
+    private final @Nullable BaseLoader owner;
+    private volatile @Nullable LocaleCache localeCache;
+    private @NotNull PlaceholderCheck placeholderCheck = PlaceholderCheck.OFF;
+    private volatile @NotNull ConsistencyReport consistencyReport = ConsistencyReport.EMPTY;
 
     public BaseLoader(@NotNull File file, @NotNull I18n adaptar) {
         this(file, null, null, null, null, adaptar);
@@ -83,8 +91,61 @@ public class BaseLoader {
             this.path = path;
         }
 
-        this.language = createMap();
         this.adaptar = adaptar;
+        this.owner = null;
+
+        if (this.file != null) {
+            this.layers = List.of(Source.of(this.file, adaptar));
+        } else if (this.path != null) {
+            this.layers = List.of(Source.of(this.path, adaptar));
+        } else if (this.clazz != null) {
+            this.layers = List.of(Source.of(this.clazz, this.namespace, adaptar));
+        } else {
+            this.layers = List.of();
+        }
+    }
+
+    /**
+     * Creates a loader that merges several layers into a single table on every update.
+     * <p>
+     * Layers are given from the lowest to the highest priority, a key present in several layers
+     * takes the value of the last one. Each key remembers the layer it came from, see {@link #getOrigin(String)}.
+     *
+     * @param layers the sources to merge, at least one
+     * @param locale the initial locale, {@link Locale#ENGLISH} if null
+     * @throws IllegalArgumentException if no layer is given
+     */
+    public BaseLoader(@NotNull List<Source> layers, @Nullable Locale locale) throws IllegalArgumentException {
+        if (layers.isEmpty()) throw new IllegalArgumentException("At least one layer is required");
+        this.file = null;
+        this.path = null;
+        this.clazz = null;
+        this.namespace = null;
+        this.locale = locale == null ? Locale.ENGLISH : locale;
+        this.adaptar = layers.get(0).getAdapter();
+        this.layers = List.copyOf(layers);
+        this.owner = null;
+    }
+
+    /**
+     * Creates a read-only view of the given loader bound to a locale and its bundle, see {@link #forLocale(Locale)}.
+     *
+     * @param loader the loader the view is taken from
+     * @param locale the locale of the view
+     * @param bundle the bundle the view renders from
+     */
+    protected BaseLoader(@NotNull BaseLoader loader, @NotNull Locale locale, @NotNull Bundle bundle) {
+        this.file = loader.file;
+        this.path = loader.path;
+        this.clazz = loader.clazz;
+        this.namespace = loader.namespace;
+        this.adaptar = loader.adaptar;
+        this.layers = loader.layers;
+        this.storageMode = loader.storageMode;
+        this.placeholderCheck = loader.placeholderCheck;
+        this.owner = loader.root();
+        this.locale = locale;
+        this.bundle = bundle;
     }
 
     public static <K, V> Map<K, V> createMap() {
@@ -99,9 +160,10 @@ public class BaseLoader {
     String toString(String loader) {
         StringBuilder sb = new StringBuilder(loader);
         sb.append("{");
-        int size = language.size();
+        Bundle bundle = this.bundle;
+        int size = bundle.size();
         if (size < 15)
-            sb.append("language=").append(language).append(", ");
+            sb.append("language=").append(bundle).append(", ");
         sb.append("languageSize=").append(size);
         if (namespace != null)
             sb.append(", namespace='").append(namespace).append('\'');
@@ -109,15 +171,23 @@ public class BaseLoader {
             sb.append(", class=").append(clazz);
         if (file != null)
             sb.append(", file='").append(file).append('\'');
+        if (layers.size() > 1)
+            sb.append(", layers=").append(layers);
         if (locale != null)
             sb.append(", locale=").append(locale.getLanguage());
+        if (owner != null)
+            sb.append(", view");
+        if (bundle.storageMode() != StorageMode.HEAP)
+            sb.append(", storage=").append(bundle.storageMode())
+                    .append(", heapBytes=").append(bundle.heapBytes())
+                    .append(", offHeapBytes=").append(bundle.offHeapBytes());
         sb.append(", adaptar=").append(adaptar).append('}');
         return sb.toString();
     }
 
     @Override
     public int hashCode() {
-        int result = language.hashCode();
+        int result = bundle.hashCode();
         result = 31 * result + (namespace != null && !namespace.isBlank() ? namespace.hashCode() : 0);
         result = 31 * result + (file != null ? file.hashCode() : 0);
         result = 31 * result + (clazz != null ? clazz.hashCode() : 0);
@@ -132,7 +202,8 @@ public class BaseLoader {
      * @param locale the Locale to be set; it can be null to indicate no specific locale
      */
     public void reset(@Nullable Locale locale) {
-        language.clear();
+        checkMutable();
+        this.bundle = Bundle.EMPTY;
         this.locale = locale;
     }
 
@@ -159,22 +230,107 @@ public class BaseLoader {
      *
      * @param locale the locale to be used for loading the language map. Must not be null.
      * @throws IOException if no valid configuration is available for loading the language map,
-     *                     or if an I/O error occurs during the loading process.
+     *                     if an I/O error occurs during the loading process,
+     *                     or if the {@link PlaceholderCheck#STRICT strict} placeholder check rejected the new bundle.
      */
     public void update(@NotNull Locale locale) throws IOException {
+        checkMutable();
+        Bundle loaded = load(locale);
+        if (placeholderCheck != PlaceholderCheck.OFF) {
+            loaded.compileAll();
+            ConsistencyReport report = ConsistencyReport.check(locale, loaded, cachedBundles());
+            if (placeholderCheck == PlaceholderCheck.STRICT && !report.isEmpty())
+                throw new IOException("Rejected the update of " + locale + ", placeholders are inconsistent: " + report);
+            this.consistencyReport = report;
+        }
         this.locale = locale;
-        Map<String, String> lang;
-        if (this.file != null) {
-            lang = this.adaptar.load(this.file);
-        } else if (this.path != null) {
-            lang = this.adaptar.load(this.path, locale);
-        } else if (this.clazz != null && this.namespace != null) {
-            lang = this.adaptar.load(this.clazz, this.namespace, locale);
-        } else {
+        this.bundle = loaded;
+    }
+
+    /**
+     * Checks a bundle loaded for another locale by the locale cache against the current bundle.
+     */
+    synchronized void verify(@NotNull Locale locale, @NotNull Bundle loaded) throws IOException {
+        if (placeholderCheck == PlaceholderCheck.OFF || this.locale == null) return;
+        loaded.compileAll();
+        List<ConsistencyReport.Issue> issues = ConsistencyReport.compare(locale, loaded, bundle);
+        if (placeholderCheck == PlaceholderCheck.STRICT && !issues.isEmpty())
+            throw new IOException("Rejected " + locale + ", placeholders are inconsistent with " + this.locale + ": " + issues);
+        this.consistencyReport = consistencyReport.with(this.locale, locale, issues);
+    }
+
+    private @NotNull Map<Locale, Bundle> cachedBundles() {
+        LocaleCache cache = localeCache;
+        if (cache == null) return Map.of();
+        Map<Locale, Bundle> bundles = new HashMap<>(cache.snapshot().bundles());
+        if (locale != null) bundles.remove(locale);
+        return bundles;
+    }
+
+    /**
+     * Retrieves how bundles are checked for inconsistent placeholders when they are loaded.
+     *
+     * @return the placeholder check, {@link PlaceholderCheck#OFF} by default
+     */
+    public @NotNull PlaceholderCheck getPlaceholderCheck() {
+        return placeholderCheck;
+    }
+
+    /**
+     * Sets how bundles are checked for inconsistent placeholders, the change takes effect with the next update.
+     * <p>
+     * Other locales are those loaded by the {@link #getLocaleCache() locale cache} of this loader.
+     *
+     * @param placeholderCheck the placeholder check to use
+     */
+    public void setPlaceholderCheck(@NotNull PlaceholderCheck placeholderCheck) {
+        checkMutable();
+        this.placeholderCheck = placeholderCheck;
+    }
+
+    /**
+     * Retrieves the report of the last placeholder check, updated whenever a locale is loaded
+     * while the check is not {@link PlaceholderCheck#OFF}.
+     *
+     * @return the last consistency report, {@link ConsistencyReport#EMPTY} if no check ran
+     */
+    public @NotNull ConsistencyReport getConsistencyReport() {
+        return root().consistencyReport;
+    }
+
+    /**
+     * Compares every loaded locale against the current one now, regardless of the placeholder check.
+     *
+     * @return the new consistency report
+     */
+    public @NotNull ConsistencyReport checkConsistency() {
+        BaseLoader root = root();
+        Locale reference = root.locale;
+        if (reference == null) return ConsistencyReport.EMPTY;
+        ConsistencyReport report = ConsistencyReport.check(reference, root.bundle, root.cachedBundles());
+        root.consistencyReport = report;
+        return report;
+    }
+
+    /**
+     * Loads and merges every layer for the given locale without installing the result.
+     */
+    @NotNull Bundle load(@NotNull Locale locale) throws IOException {
+        if (layers.isEmpty())
             throw new IOException("Invalid configuration for loading language map");
+        if (layers.size() == 1)
+            return Bundle.of(layers.get(0).load(locale), layers, null, locale, storageMode);
+
+        Map<String, String> merged = createMap();
+        Map<String, Integer> origins = createMap();
+        for (int i = 0; i < layers.size(); i++) {
+            Map<String, String> lang = layers.get(i).load(locale);
+            merged.putAll(lang);
+            for (String key : lang.keySet()) {
+                origins.put(key, i);
+            }
         }
-        this.language.clear();
-        this.language.putAll(lang);
+        return Bundle.of(merged, layers, origins, locale, storageMode);
     }
 
     /**
@@ -184,18 +340,136 @@ public class BaseLoader {
      * @throws IOException if an I/O error occurs during the loading of data from the input stream
      */
     public void update(@NotNull InputStream customInputStream) throws IOException {
+        checkMutable();
         var lang = this.adaptar.load(customInputStream);
-        this.language.clear();
-        this.language.putAll(lang);
+        this.bundle = Bundle.of(lang, this.locale, this.storageMode);
+    }
+
+    /**
+     * Installs the bundle of the current locale from a snapshot, without reading or parsing any file.
+     *
+     * @param snapshot the snapshot, typically received from another server
+     * @throws IOException if no locale is set or the snapshot does not contain it
+     * @see LocaleCache#update(Snapshot)
+     */
+    public void update(@NotNull Snapshot snapshot) throws IOException {
+        checkMutable();
+        Bundle installed = locale != null ? snapshot.get(locale) : null;
+        if (installed == null)
+            throw new IOException("Snapshot does not contain the locale " + locale);
+        this.bundle = installed;
+    }
+
+    /**
+     * Captures the currently loaded bundle for export.
+     *
+     * @return a snapshot holding the current locale, or no locale if none is set
+     * @see LocaleCache#snapshot()
+     */
+    public @NotNull Snapshot snapshot() {
+        Bundle current = bundle;
+        Locale locale = localeOf(current);
+        return locale != null ? new Snapshot(Map.of(locale, current)) : new Snapshot(Map.of());
+    }
+
+    /**
+     * Retrieves the layers merged by this loader, from the lowest to the highest priority.
+     *
+     * @return the sources of this loader
+     */
+    public @NotNull List<Source> getLayers() {
+        return layers;
+    }
+
+    /**
+     * Retrieves the layer the current value of the provided key was taken from, for diagnostics.
+     *
+     * @param key the translation key
+     * @return the source of the key, or null if the key is missing or was loaded from an input stream
+     */
+    public @Nullable Source getOrigin(@NotNull String key) {
+        return bundle.origin(key);
+    }
+
+    /**
+     * Estimates the memory retained by the current bundle, including its compiled templates.
+     * <p>
+     * Use it to compare storage modes or to catch a growing bundle before it is deployed,
+     * {@link LocaleCache#getFootprint()} also covers the other cached locales.
+     *
+     * @return the footprint of the current locale, broken down per source
+     */
+    public @NotNull Footprint getFootprint() {
+        Bundle current = bundle;
+        Locale locale = localeOf(current);
+        return current.footprint(locale != null ? locale : Locale.ROOT);
+    }
+
+    /**
+     * Retrieves where the values of the next loaded bundle are stored.
+     *
+     * @return the storage mode, {@link StorageMode#HEAP} by default
+     */
+    public @NotNull StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    /**
+     * Sets where the values of loaded bundles are stored, the change takes effect with the next update.
+     * <p>
+     * Off-heap modes trade a decode on cache misses for less old-gen pressure,
+     * compare {@link Bundle#heapBytes()} and {@link Bundle#offHeapBytes()} to decide.
+     *
+     * @param storageMode the storage mode to use
+     */
+    public void setStorageMode(@NotNull StorageMode storageMode) {
+        checkMutable();
+        this.storageMode = storageMode;
     }
 
     /**
      * Return a copy of the language map
      *
      * @return a non-null copy of the language map
+     * @see #getBundle()
      */
     public @NotNull Map<String, String> getLanguageMap() {
-        return v1 ? one.tranic.t.utils.Collections.newHashMap(language) : new HashMap<>(language);
+        Map<String, String> map = bundle.asMap();
+        return v1 ? one.tranic.t.utils.Collections.newHashMap(map) : new HashMap<>(map);
+    }
+
+    /**
+     * Returns the immutable snapshot of the currently loaded translations.
+     * <p>
+     * Unlike {@link #getLanguageMap()} this does not copy anything, the returned bundle is replaced
+     * as a whole by the next update and never changes afterwards.
+     *
+     * @return the current bundle
+     */
+    public @NotNull Bundle getBundle() {
+        return bundle;
+    }
+
+    /**
+     * Returns the loaded entries below the given node of the key tree, without copying them.
+     *
+     * @param prefix the node of the key tree, without the trailing dot, such as {@code "menu.shop"}
+     * @return an unmodifiable view of the matching entries
+     * @see Bundle#subtree(String)
+     */
+    public @NotNull Map<String, String> subtree(@NotNull String prefix) {
+        return bundle.subtree(prefix);
+    }
+
+    /**
+     * Returns the loaded keys starting with the given prefix, without copying them.
+     *
+     * @param prefix the prefix the keys must start with
+     * @return an unmodifiable view of the matching keys in sorted order
+     * @see Bundle#keysWithPrefix(String)
+     */
+    public @NotNull List<String> keysWithPrefix(@NotNull String prefix) {
+        return bundle.keysWithPrefix(prefix);
     }
 
     /**
@@ -213,9 +487,105 @@ public class BaseLoader {
      * @param locale the {@link Locale} object representing the desired language and region settings; must not be null
      */
     public void setLanguage(@NotNull Locale locale) {
+        checkMutable();
         this.locale = locale;
     }
 
+    /**
+     * Returns a read-only view of this loader bound to the given locale.
+     * <p>
+     * The view holds a direct reference to the bundle of the locale, so rendering through it needs neither
+     * locale resolution nor shared mutable state, and any number of threads can render for different players at once:
+     * <pre>{@code
+     * String text = loader.forLocale(player.getLocale()).to("goldpiglin.test1");
+     * }</pre>
+     * Locales other than the current one are served by the {@link #getLocaleCache() locale cache}; while such a locale
+     * is still loading, the view renders the current bundle. Views are cheap to create and never change,
+     * take a new one per render instead of keeping it across reloads. Mutators of a view throw
+     * {@link UnsupportedOperationException}.
+     *
+     * @param locale the locale to render for
+     * @return a view bound to the bundle of the locale
+     */
+    public @NotNull BaseLoader forLocale(@NotNull Locale locale) {
+        BaseLoader root = root();
+        return new BaseLoader(root, locale, root.bundleFor(locale));
+    }
+
+    /**
+     * Checks whether this loader is a read-only view returned by {@link #forLocale(Locale)}.
+     *
+     * @return {@code true} for a view
+     */
+    public boolean isView() {
+        return owner != null;
+    }
+
+    /**
+     * Retrieves the cache serving the locales requested through {@link #forLocale(Locale)},
+     * an unbounded {@link LocaleCache} is created on first use unless one was set.
+     *
+     * @return the locale cache of this loader
+     */
+    public @NotNull LocaleCache getLocaleCache() {
+        BaseLoader root = root();
+        LocaleCache cache = root.localeCache;
+        if (cache != null) return cache;
+        synchronized (root) {
+            cache = root.localeCache;
+            if (cache == null) root.localeCache = cache = new LocaleCache(root);
+            return cache;
+        }
+    }
+
+    /**
+     * Sets the cache serving the locales requested through {@link #forLocale(Locale)},
+     * for example one with a bounded size or a dedicated executor.
+     *
+     * @param localeCache a cache created for this loader
+     * @throws IllegalArgumentException if the cache was created for another loader
+     */
+    public void setLocaleCache(@NotNull LocaleCache localeCache) throws IllegalArgumentException {
+        checkMutable();
+        if (localeCache.getLoader() != this)
+            throw new IllegalArgumentException("Locale cache was created for another loader");
+        this.localeCache = localeCache;
+    }
+
+    @NotNull BaseLoader root() {
+        return owner != null ? owner : this;
+    }
+
+    @NotNull Bundle bundleFor(@NotNull Locale locale) {
+        Bundle current = bundle;
+        if (locale.equals(current.locale())) return current;
+        return getLocaleCache().get(locale);
+    }
+
+    /**
+     * Retrieves the locale a bundle was loaded for, read from the bundle itself so that it always matches it
+     * while another thread installs a new locale and bundle, falling back to the current locale for bundles without one.
+     */
+    private @Nullable Locale localeOf(@NotNull Bundle bundle) {
+        Locale locale = bundle.locale();
+        return locale != null ? locale : this.locale;
+    }
+
+    private void checkMutable() {
+        if (owner != null)
+            throw new UnsupportedOperationException("Loader views returned by forLocale are read-only");
+    }
+
+    /**
+     * Retrieves the raw localized value for the provided key without any fallback.
+     *
+     * @param key the translation key used to fetch the corresponding localized string
+     * @return the localized string, or null if the key is not present in the language map
+     */
+    public @Nullable String get(@NotNull String key) {
+        return bundle.get(key);
+    }
+
     /**
      * Translates the provided key into a localized string using the predefined language map.
      * <p>
@@ -225,7 +595,8 @@ public class BaseLoader {
      * @return the localized string corresponding to the provided key, or the key itself if no translation exists
      */
     public @NotNull String to(@NotNull String key) {
-        return language.getOrDefault(key, key);
+        String value = bundle.get(key);
+        return value == null ? key : value;
     }
 
     /**
@@ -243,8 +614,9 @@ public class BaseLoader {
      * @return the formatted translated string
      */
     public @NotNull String to(@NotNull String key, @NotNull Object... args) {
-        var text = to(key);
-        if (args.length == 0 || key.equals(text)) return text;
+        String text = bundle.get(key);
+        if (text == null) return key;
+        if (args.length == 0 || text.indexOf('%') == -1) return text;
         return String.format(text, args);
     }
 
@@ -263,20 +635,12 @@ public class BaseLoader {
      * @return the localized and formatted string with placeholders replaced by the arguments, or the key itself if no translation exists
      */
     public @NotNull String toBrace(@NotNull String key, @NotNull Object... args) {
-        String text = to(key);
-        if (args.length == 0 || key.equals(text)) return text;
+        String text = bundle.get(key);
+        if (text == null) return key;
+        if (args.length == 0 || !text.contains("{}")) return text;
 
         StringBuilder sb = new StringBuilder(text);
-        String placeholder = "{}";
-        int placeholderIndex = 0;
-        int searchFrom = 0;
-
-        while ((searchFrom = sb.indexOf(placeholder, searchFrom)) != -1 && placeholderIndex < args.length) {
-            sb.replace(searchFrom, searchFrom + placeholder.length(), String.valueOf(args[placeholderIndex]));
-            searchFrom += String.valueOf(args[placeholderIndex]).length();
-            placeholderIndex++;
-        }
-
+        replaceBrace(sb, 0, args);
         return sb.toString();
     }
 
@@ -297,10 +661,169 @@ public class BaseLoader {
      * returns the original text if no placeholders match or if no components are provided
      */
     public @NotNull String toBrace(@NotNull String key, @NotNull SimpleComponent... args) {
-        String text = to(key);
-        if (args.length == 0 || key.equals(text)) return text;
+        String text = bundle.get(key);
+        if (text == null) return key;
+        if (args.length == 0 || text.indexOf('{') == -1) return text;
 
         StringBuilder sb = new StringBuilder(text);
+        replaceBrace(sb, args);
+        return sb.toString();
+    }
+
+    /**
+     * Formats the localized value for the provided key as an ICU-style message with positional arguments.
+     * <p>
+     * Values may contain plural and select forms, the plural categories follow the rules of the loader's locale:
+     * <pre>{@code
+     * "{0} has {1, plural, =0 {no items} one {# item} other {# items}}" with args ["Steve", 5] produces "Steve has 5 items"
+     * "{0, select, male {He} female {She} other {They}} joined" with arg "female" produces "She joined"
+     * }</pre>
+     * The value is compiled on first use and the result is cached in the bundle,
+     * so later renders neither parse the value nor create a {@link java.text.MessageFormat}.
+     *
+     * @param key  the translation key used to fetch the corresponding localized message
+     * @param args the arguments referenced as {@code {0}}, {@code {1}}, or in order as {@code {}}
+     * @return the formatted message, or the key itself if no translation exists
+     */
+    public @NotNull String toMessage(@NotNull String key, @NotNull Object... args) {
+        Bundle bundle = this.bundle;
+        Template template = bundle.template(key);
+        if (template == null) return key;
+        return template.format(renderLocale(bundle), args, null);
+    }
+
+    /**
+     * Formats the localized value for the provided key as an ICU-style message with named arguments.
+     * <p>
+     * For example:
+     * <pre>{@code
+     * "{player} found {count, plural, one {# diamond} other {# diamonds}}" with args {"player": "Alex", "count": 1}
+     * produces "Alex found 1 diamond"
+     * }</pre>
+     *
+     * @param key  the translation key used to fetch the corresponding localized message
+     * @param args an array of {@link SimpleComponent} objects providing the values of the named arguments
+     * @return the formatted message, or the key itself if no translation exists
+     * @see #toMessage(String, Object...)
+     */
+    public @NotNull String toMessage(@NotNull String key, @NotNull SimpleComponent... args) {
+        Bundle bundle = this.bundle;
+        Template template = bundle.template(key);
+        if (template == null) return key;
+        return template.format(renderLocale(bundle), null, args);
+    }
+
+    /**
+     * Picks the locale the bundle was loaded for, whose plural rule and number format render its values,
+     * which differs from the locale of a view while the view falls back to another bundle.
+     */
+    private @NotNull Locale renderLocale(@NotNull Bundle bundle) {
+        Locale locale = localeOf(bundle);
+        return locale != null ? locale : Locale.ENGLISH;
+    }
+
+    /**
+     * Returns the lines of the localized value for the provided key.
+     * <p>
+     * List values (YAML/JSON arrays, repeated XML elements) and multiline values are split once when the
+     * bundle is loaded, so this method does not split anything at render time.
+     *
+     * @param key the translation key used to fetch the corresponding localized lines
+     * @return an immutable list of lines, empty for an empty list or value,
+     * or a single-element list containing the key itself if no translation exists
+     */
+    public @NotNull List<String> toLines(@NotNull String key) {
+        List<String> list = bundle.lines(key);
+        if (list != null) return list;
+        return List.of(to(key));
+    }
+
+    /**
+     * Returns the lines of the localized value for the provided key, formatting each line with the provided arguments.
+     * <p>
+     * Every line is formatted independently with the full argument array, use explicit argument indices
+     * such as {@code %1$s} to reference the same argument from several lines.
+     *
+     * @param key  the translation key used to fetch the corresponding localized lines
+     * @param args the arguments to format every line
+     * @return an immutable list of formatted lines
+     * @see #to(String, Object...)
+     */
+    public @NotNull List<String> toLines(@NotNull String key, @NotNull Object... args) {
+        List<String> list = bundle.lines(key);
+        if (list == null) return List.of(to(key, args));
+        if (args.length == 0) return list;
+
+        String[] result = new String[list.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = String.format(list.get(i), args);
+        }
+        return List.of(result);
+    }
+
+    /**
+     * Returns the lines of the localized value for the provided key, replacing the "{}" placeholders with the provided arguments.
+     * <p>
+     * Placeholders are consumed in order across all lines, so the first argument replaces the first "{}"
+     * of the first line that contains one.
+     *
+     * @param key  the translation key used to fetch the corresponding localized lines
+     * @param args the arguments to replace the "{}" placeholders within the lines
+     * @return an immutable list of lines with placeholders replaced by the arguments
+     * @see #toBrace(String, Object...)
+     */
+    public @NotNull List<String> toLinesBrace(@NotNull String key, @NotNull Object... args) {
+        List<String> list = bundle.lines(key);
+        if (list == null) return List.of(toBrace(key, args));
+        if (args.length == 0) return list;
+
+        String[] result = new String[list.size()];
+        int argIndex = 0;
+        for (int i = 0; i < result.length; i++) {
+            StringBuilder sb = new StringBuilder(list.get(i));
+            argIndex = replaceBrace(sb, argIndex, args);
+            result[i] = sb.toString();
+        }
+        return List.of(result);
+    }
+
+    /**
+     * Returns the lines of the localized value for the provided key, replacing the "{keyword}" placeholders
+     * of every line with the values of the provided components.
+     *
+     * @param key  the translation key used to fetch the corresponding localized lines
+     * @param args an array of {@link SimpleComponent} objects that provide the values for placeholders
+     * @return an immutable list of lines with placeholders replaced by their corresponding values
+     * @see #toBrace(String, SimpleComponent...)
+     */
+    public @NotNull List<String> toLinesBrace(@NotNull String key, @NotNull SimpleComponent... args) {
+        List<String> list = bundle.lines(key);
+        if (list == null) return List.of(toBrace(key, args));
+        if (args.length == 0) return list;
+
+        String[] result = new String[list.size()];
+        for (int i = 0; i < result.length; i++) {
+            StringBuilder sb = new StringBuilder(list.get(i));
+            replaceBrace(sb, args);
+            result[i] = sb.toString();
+        }
+        return List.of(result);
+    }
+
+    private static int replaceBrace(StringBuilder sb, int argIndex, Object[] args) {
+        String placeholder = "{}";
+        int searchFrom = 0;
+
+        while (argIndex < args.length && (searchFrom = sb.indexOf(placeholder, searchFrom)) != -1) {
+            String value = String.valueOf(args[argIndex]);
+            sb.replace(searchFrom, searchFrom + placeholder.length(), value);
+            searchFrom += value.length();
+            argIndex++;
+        }
+        return argIndex;
+    }
+
+    private static void replaceBrace(StringBuilder sb, SimpleComponent[] args) {
         for (SimpleComponent component : args) {
             String placeholder = "{" + component.keyword() + "}";
             int placeholderIndex;
@@ -308,7 +831,6 @@ public class BaseLoader {
                 sb.replace(placeholderIndex, placeholderIndex + placeholder.length(), String.valueOf(component.value()));
             }
         }
-        return sb.toString();
     }
 
     public record SimpleComponent(@NotNull String keyword, @NotNull Object value) {
@@ -0,0 +1,633 @@
+package one.tranic.t.i18n;
+
+import one.tranic.t.i18n.loader.Source;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * An immutable snapshot of the translations of one locale.
+ * <p>
+ * Keys are kept sorted next to an open addressing hash index built once at load time,
+ * so a lookup is a single probe and every key sharing a prefix is a contiguous range.
+ * The views returned by {@link #subtree(String)}, {@link #keysWithPrefix(String)} and {@link #asMap()}
+ * read that range directly and never copy the bundle.
+ */
+public final class Bundle {
+    public static final Bundle EMPTY = new Bundle(new String[0], new String[0], ValueStore.EMPTY, List.of(), null, null);
+
+    static final int REFERENCE_BYTES = 4;
+    static final int PARALLEL_THRESHOLD = 4096;
+
+    private final @NotNull String[] keys;
+    private final @NotNull ValueStore values;
+    private final @Nullable List<String>[] lines;
+    private final @NotNull int[] table;
+    private final int mask;
+    private final @NotNull List<Source> sources;
+    private final @Nullable byte[] origins;
+    private final @Nullable Locale locale;
+    private int checksum;
+    private volatile boolean checksummed;
+    private volatile @Nullable Template[] templates;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Bundle(@NotNull String[] keys, @NotNull String[] values, @NotNull ValueStore store, @NotNull List<Source> sources,
+                   @Nullable byte[] origins, @Nullable Locale locale) {
+        this.keys = keys;
+        this.values = store;
+        this.sources = sources;
+        this.origins = origins;
+        this.locale = locale;
+        this.lines = store.mode() == StorageMode.HEAP ? new List[keys.length] : null;
+
+        int capacity = Integer.highestOneBit(Math.max(2, keys.length * 2) - 1) << 1;
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+
+        for (int i = 0; i < keys.length; i++) {
+            int slot = spread(keys[i].hashCode()) & mask;
+            while (table[slot] != 0) slot = (slot + 1) & mask;
+            table[slot] = i + 1;
+
+            if (lines != null) lines[i] = split(values[i]);
+        }
+    }
+
+    /**
+     * Builds a bundle from a parsed language map, keeping the values on heap.
+     *
+     * @param language the key to value mapping produced by an adapter
+     * @return a new immutable bundle, or {@link #EMPTY} if the map is empty
+     */
+    public static @NotNull Bundle of(@NotNull Map<String, String> language) {
+        try {
+            return of(language, StorageMode.HEAP);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Builds a bundle from a parsed language map.
+     *
+     * @param language the key to value mapping produced by an adapter
+     * @param mode     where the values of the bundle are stored
+     * @return a new immutable bundle, or {@link #EMPTY} if the map is empty
+     * @throws IOException if the off-heap storage could not be allocated
+     */
+    public static @NotNull Bundle of(@NotNull Map<String, String> language, @NotNull StorageMode mode) throws IOException {
+        return of(language, List.of(), null, null, mode);
+    }
+
+    /**
+     * Builds a bundle of the given locale, whose plural rules are used to render its values.
+     */
+    static @NotNull Bundle of(@NotNull Map<String, String> language, @Nullable Locale locale, @NotNull StorageMode mode) throws IOException {
+        return of(language, List.of(), null, locale, mode);
+    }
+
+    /**
+     * Builds a bundle merged from several layers, remembering which layer each key came from.
+     *
+     * @param language the merged key to value mapping
+     * @param sources  the layers in priority order, the last one wins
+     * @param origins  the index in {@code sources} of the layer each key of the merged mapping came from,
+     *                 or null if there is at most one source
+     * @param locale   the locale the bundle was loaded for, or null if unknown
+     * @param mode     where the values of the bundle are stored
+     * @return a new immutable bundle
+     * @throws IOException              if the off-heap storage could not be allocated
+     * @throws IllegalArgumentException if a key has no layer or a layer index is out of range
+     */
+    static @NotNull Bundle of(@NotNull Map<String, String> language, @NotNull List<Source> sources,
+                              @Nullable Map<String, Integer> origins, @Nullable Locale locale, @NotNull StorageMode mode) throws IOException {
+        if (sources.size() > 256) throw new IllegalArgumentException("A bundle supports at most 256 sources");
+        if (language.isEmpty())
+            return sources.isEmpty() && locale == null ? EMPTY : new Bundle(new String[0], new String[0], ValueStore.EMPTY, sources, null, locale);
+
+        String[] keys = new String[language.size()];
+        int size = 0;
+        for (Map.Entry<String, String> entry : language.entrySet()) {
+            if (entry.getValue() != null) keys[size++] = entry.getKey();
+        }
+        keys = size == keys.length ? keys : Arrays.copyOf(keys, size);
+        Arrays.sort(keys);
+
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = language.get(keys[i]);
+        }
+
+        byte[] layers = null;
+        if (origins != null) {
+            layers = new byte[size];
+            for (int i = 0; i < size; i++) {
+                Integer layer = origins.get(keys[i]);
+                if (layer == null || layer < 0 || layer >= sources.size())
+                    throw new IllegalArgumentException("No layer recorded for key " + keys[i] + ": " + layer);
+                layers[i] = (byte) (int) layer;
+            }
+        }
+        return new Bundle(keys, values, ValueStore.of(values, mode), List.copyOf(sources), layers, locale);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    static long arrayBytes(int length, int elementBytes) {
+        return align(16 + (long) length * elementBytes);
+    }
+
+    static long stringBytes(@NotNull String value) {
+        return stringBytes(value.length(), isLatin1(value));
+    }
+
+    static long stringBytes(int length, boolean latin1) {
+        return 24 + arrayBytes(length, latin1 ? 1 : 2);
+    }
+
+    static boolean isLatin1(@NotNull String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) return false;
+        }
+        return true;
+    }
+
+    int indexOf(@NotNull String key) {
+        int slot = spread(key.hashCode()) & mask;
+        int index;
+        while ((index = table[slot]) != 0) {
+            if (keys[index - 1].equals(key)) return index - 1;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Retrieves the value stored for the provided key.
+     *
+     * @param key the translation key
+     * @return the value, or null if the key is not part of this bundle
+     */
+    public @Nullable String get(@NotNull String key) {
+        int index = indexOf(key);
+        return index == -1 ? null : values.get(index);
+    }
+
+    /**
+     * Retrieves the lines of a multiline or list value.
+     * <p>
+     * Lines are split once at load time for {@link StorageMode#HEAP} bundles,
+     * off-heap bundles split the value on every call so that no line is kept on heap.
+     *
+     * @param key the translation key
+     * @return the immutable lines, empty for an empty value such as an empty list,
+     * or null if the key is missing or its value is a single line
+     */
+    public @Nullable List<String> lines(@NotNull String key) {
+        int index = indexOf(key);
+        if (index == -1) return null;
+        if (lines != null) return lines[index];
+        return split(values.get(index));
+    }
+
+    private static @Nullable List<String> split(@NotNull String value) {
+        if (value.isEmpty()) return List.of();
+        return value.indexOf('\n') == -1 ? null : List.of(value.split("\n", -1));
+    }
+
+    /**
+     * Retrieves the compiled template of a value, compiling it on first use.
+     * <p>
+     * Templates are immutable and cached next to the value, so every later render of the key skips parsing.
+     *
+     * @param key the translation key
+     * @return the template, or null if the key is missing
+     */
+    @Nullable Template template(@NotNull String key) {
+        int index = indexOf(key);
+        return index == -1 ? null : template(index);
+    }
+
+    @NotNull Template template(int index) {
+        Template[] templates = this.templates;
+        if (templates == null) {
+            synchronized (this) {
+                templates = this.templates;
+                if (templates == null) this.templates = templates = new Template[keys.length];
+            }
+        }
+        Template template = templates[index];
+        if (template == null) templates[index] = template = Template.compile(values.get(index));
+        return template;
+    }
+
+    /**
+     * Retrieves the template of a value to inspect its signature.
+     * <p>
+     * Off-heap bundles compile it without caching it, so that checking a bundle does not pull every value back onto the heap.
+     *
+     * @param index the index of the key
+     * @return the cached template, or a new one
+     */
+    @NotNull Template inspect(int index) {
+        if (values.mode() == StorageMode.HEAP) return template(index);
+        Template[] templates = this.templates;
+        Template template = templates == null ? null : templates[index];
+        return template != null ? template : Template.compile(values.read(index));
+    }
+
+    /**
+     * @param key the translation key
+     * @return the template of the value to inspect, or null if the key is missing
+     * @see #inspect(int)
+     */
+    @Nullable Template inspect(@NotNull String key) {
+        int index = indexOf(key);
+        return index == -1 ? null : inspect(index);
+    }
+
+    /**
+     * Compiles the template of every value ahead of the first render, in parallel for large bundles.
+     * Off-heap bundles keep compiling lazily.
+     */
+    void compileAll() {
+        if (values.mode() != StorageMode.HEAP) return;
+        if (keys.length >= PARALLEL_THRESHOLD) IntStream.range(0, keys.length).parallel().forEach(this::template);
+        else for (int i = 0; i < keys.length; i++) template(i);
+    }
+
+    /**
+     * Estimates the heap bytes of a value once decoded, without decoding it.
+     *
+     * @param key the translation key
+     * @return the estimated bytes, or 0 if the key is missing
+     */
+    long decodedBytes(@NotNull String key) {
+        int index = indexOf(key);
+        if (index == -1) return 0;
+        return values.decodedBytes(index);
+    }
+
+    @NotNull String key(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Retrieves the layer the value of the provided key was taken from.
+     *
+     * @param key the translation key
+     * @return the source of the key, or null if the key is missing or the bundle was not loaded from a source
+     */
+    public @Nullable Source origin(@NotNull String key) {
+        if (sources.isEmpty()) return null;
+        int index = indexOf(key);
+        if (index == -1) return null;
+        return sources.get(origins == null ? 0 : origins[index] & 0xFF);
+    }
+
+    /**
+     * Returns the layers this bundle was merged from, in priority order.
+     *
+     * @return the sources, empty if the bundle was not loaded from a source
+     */
+    public @NotNull List<Source> sources() {
+        return sources;
+    }
+
+    public boolean contains(@NotNull String key) {
+        return indexOf(key) != -1;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    /**
+     * @return the locale the bundle was loaded for, or null if it was built from a plain map
+     */
+    public @Nullable Locale locale() {
+        return locale;
+    }
+
+    public @NotNull StorageMode storageMode() {
+        return values.mode();
+    }
+
+    /**
+     * Estimates the bytes this bundle keeps on the Java heap: keys, values or their offset index,
+     * pre-split lines of heap bundles and the lookup index.
+     *
+     * @return the estimated resident heap bytes
+     */
+    public long heapBytes() {
+        long bytes = 40 + (origins == null ? 0 : arrayBytes(origins.length, 1)) + arrayBytes(keys.length, REFERENCE_BYTES)
+                + arrayBytes(table.length, 4) + values.heapBytes();
+        for (String key : keys) {
+            bytes += stringBytes(key);
+        }
+        if (lines == null) return bytes;
+        bytes += arrayBytes(lines.length, REFERENCE_BYTES);
+        for (List<String> list : lines) {
+            if (list == null || list.isEmpty()) continue;
+            bytes += arrayBytes(list.size(), REFERENCE_BYTES) + 16;
+            for (String line : list) {
+                bytes += stringBytes(line);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Estimates the bytes retained by this bundle, including the templates compiled so far,
+     * attributing every entry to the layer it was taken from.
+     *
+     * @param locale the locale the bundle was loaded for
+     * @return the footprint of this bundle
+     */
+    @NotNull Footprint footprint(@NotNull Locale locale) {
+        Template[] templates = this.templates;
+        boolean heap = values.mode() == StorageMode.HEAP;
+        Footprint.Usage[] perSource = new Footprint.Usage[sources.size()];
+        Arrays.fill(perSource, Footprint.Usage.ZERO);
+
+        long entryValues = 0, entryOffHeap = 0;
+        Footprint.Usage entries = Footprint.Usage.ZERO;
+        for (int i = 0; i < keys.length; i++) {
+            long keyBytes = stringBytes(keys[i]) + REFERENCE_BYTES;
+            long valueBytes = heap ? values.valueBytes(i) : 0;
+            long offHeapBytes = heap ? 0 : values.valueBytes(i);
+            long lineBytes = lines == null ? 0 : REFERENCE_BYTES;
+            List<String> list = lines == null ? null : lines[i];
+            if (list != null && !list.isEmpty()) {
+                lineBytes += 16 + arrayBytes(list.size(), REFERENCE_BYTES);
+                for (String line : list) lineBytes += stringBytes(line);
+            }
+            Template template = templates == null ? null : templates[i];
+            long templateBytes = templates == null ? 0 : REFERENCE_BYTES + (template == null ? 0 : template.heapBytes(heap));
+
+            Footprint.Usage usage = new Footprint.Usage(1, keyBytes, valueBytes, lineBytes, templateBytes, 0, 0, offHeapBytes);
+            entries = entries.plus(usage);
+            entryValues += valueBytes;
+            entryOffHeap += offHeapBytes;
+            if (!sources.isEmpty()) {
+                int source = origins == null ? 0 : origins[i] & 0xFF;
+                perSource[source] = perSource[source].plus(usage);
+            }
+        }
+
+        long index = 40 + arrayBytes(table.length, 4) + (origins == null ? 0 : arrayBytes(origins.length, 1))
+                + arrayBytes(keys.length, 0) + (lines == null ? 0 : arrayBytes(lines.length, 0)) + (templates == null ? 0 : arrayBytes(templates.length, 0));
+        Footprint.Usage overhead = new Footprint.Usage(0, 0, values.heapBytes() - entryValues, 0, 0, index, 0,
+                values.offHeapBytes() - entryOffHeap);
+
+        Map<Locale, Footprint.Usage> locales = new LinkedHashMap<>();
+        locales.put(locale, entries.plus(overhead));
+        Map<String, Footprint.Usage> bySource = new LinkedHashMap<>();
+        for (int i = 0; i < perSource.length; i++) {
+            bySource.merge(sources.get(i).toString(), perSource[i], Footprint.Usage::plus);
+        }
+        return new Footprint(locales, bySource);
+    }
+
+    /**
+     * Returns the bytes this bundle keeps outside the Java heap, zero for {@link StorageMode#HEAP}.
+     *
+     * @return the off-heap bytes
+     */
+    public long offHeapBytes() {
+        return values.offHeapBytes();
+    }
+
+    /**
+     * Iterates over every entry in key order without allocating entry objects.
+     * <p>
+     * Off-heap values are decoded without going through the decode cache, so a bulk read does not evict hot values.
+     *
+     * @param action the action invoked for each key and value
+     */
+    public void forEach(@NotNull BiConsumer<String, String> action) {
+        for (int i = 0; i < keys.length; i++) {
+            action.accept(keys[i], values.read(i));
+        }
+    }
+
+    /**
+     * Returns every key of this bundle in sorted order.
+     *
+     * @return an unmodifiable view of the sorted keys
+     */
+    public @NotNull List<String> keys() {
+        return new KeyView(0, keys.length);
+    }
+
+    /**
+     * Returns the keys starting with the given prefix, in sorted order.
+     * <p>
+     * The prefix is matched as plain text, {@code keysWithPrefix("menu.shop")} also matches {@code menu.shopkeeper}.
+     *
+     * @param prefix the prefix the keys must start with
+     * @return an unmodifiable view of the matching range of keys
+     */
+    public @NotNull List<String> keysWithPrefix(@NotNull String prefix) {
+        int from = lowerBound(prefix);
+        return new KeyView(from, upperBound(prefix, from));
+    }
+
+    /**
+     * Returns the entries below the given node of the key tree.
+     * <p>
+     * For example {@code subtree("menu.shop")} contains {@code menu.shop.title} and {@code menu.shop.item.name},
+     * but neither {@code menu.shop} itself nor {@code menu.shopkeeper}. Keys in the view are the full keys.
+     *
+     * @param prefix the node of the key tree, without the trailing dot
+     * @return an unmodifiable view of the matching range of entries
+     */
+    public @NotNull Map<String, String> subtree(@NotNull String prefix) {
+        if (prefix.isEmpty()) return asMap();
+        String node = prefix + '.';
+        int from = lowerBound(node);
+        return new RangeMap(from, upperBound(node, from));
+    }
+
+    /**
+     * Returns an unmodifiable view of the whole bundle.
+     *
+     * @return a map view with single probe lookups
+     */
+    public @NotNull Map<String, String> asMap() {
+        return new RangeMap(0, keys.length);
+    }
+
+    private int lowerBound(@NotNull String prefix) {
+        int low = 0, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private int upperBound(@NotNull String prefix, int from) {
+        int low = from, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].startsWith(prefix)) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Computes a CRC32 over every key and value in key order, cached after the first call.
+     */
+    int checksum() {
+        if (checksummed) return checksum;
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < keys.length; i++) {
+            crc.update(keys[i].getBytes(StandardCharsets.UTF_8));
+            crc.update(0);
+            values.checksum(i, crc);
+            crc.update(0);
+        }
+        int result = (int) crc.getValue();
+        checksum = result;
+        checksummed = true;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Bundle bundle)) return false;
+        if (!Arrays.equals(keys, bundle.keys)) return false;
+        for (int i = 0; i < keys.length; i++) {
+            if (!values.valueEquals(i, bundle.values, i)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(keys);
+        for (int i = 0; i < keys.length; i++) {
+            result = 31 * result + values.valueHash(i);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+
+    private final class KeyView extends AbstractList<String> {
+        private final int from;
+        private final int to;
+
+        private KeyView(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= to - from) throw new IndexOutOfBoundsException(index);
+            return keys[from + index];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    private final class RangeMap extends AbstractMap<String, String> {
+        private final int from;
+        private final int to;
+
+        private RangeMap(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        private int indexOf(Object key) {
+            if (!(key instanceof String string)) return -1;
+            int index = Bundle.this.indexOf(string);
+            return index >= from && index < to ? index : -1;
+        }
+
+        @Override
+        public String get(Object key) {
+            int index = indexOf(key);
+            return index == -1 ? null : values.get(index);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexOf(key) != -1;
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public @NotNull Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public @NotNull Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<>() {
+                        private int index = from;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < to;
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (index >= to) throw new NoSuchElementException();
+                            int current = index++;
+                            return new SimpleImmutableEntry<>(keys[current], values.read(current));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return to - from;
+                }
+            };
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package one.tranic.t.i18n;
 
 import one.tranic.t.i18n.loader.I18n;
+import one.tranic.t.i18n.loader.Source;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Locale;
 
 public class BungeeLoader extends BaseLoader {
@@ -33,6 +35,20 @@ public class BungeeLoader extends BaseLoader {
         super(file, path, clazz, namespace, locale, adaptar);
     }
 
+    public BungeeLoader(@NotNull List<Source> layers, @Nullable Locale locale) throws IllegalArgumentException {
+        super(layers, locale);
+    }
+
+    protected BungeeLoader(@NotNull BungeeLoader loader, @NotNull Locale locale, @NotNull Bundle bundle) {
+        super(loader, locale, bundle);
+    }
+
+    @Override
+    public @NotNull BungeeLoader forLocale(@NotNull Locale locale) {
+        BungeeLoader root = (BungeeLoader) root();
+        return new BungeeLoader(root, locale, root.bundleFor(locale));
+    }
+
     @Override
     public String toString() {
         return toString("BungeeLoader");
@@ -105,4 +121,91 @@ public class BungeeLoader extends BaseLoader {
     public @NotNull net.md_5.bungee.api.chat.BaseComponent[] toBaseComponentBrace(@NotNull String key, @NotNull SimpleComponent... args) {
         return net.md_5.bungee.api.chat.TextComponent.fromLegacyText(toBrace(key, args));
     }
+
+    /**
+     * Converts the ICU-style message of the translation key into an array of BaseComponent objects.
+     * <p>
+     * For example:
+     * <pre>{@code
+     * "{0, plural, one {# item} other {# items}}" with arg 5 produces "5 items"
+     * }</pre>
+     *
+     * @param key  the translation key used to fetch the corresponding localized message
+     * @param args the arguments referenced as {@code {0}}, {@code {1}}, or in order as {@code {}}
+     * @return an array of BaseComponent objects representing the formatted message
+     * @see BaseLoader#toMessage(String, Object...)
+     */
+    public @NotNull net.md_5.bungee.api.chat.BaseComponent[] toBaseComponentMessage(@NotNull String key, @NotNull Object... args) {
+        return net.md_5.bungee.api.chat.TextComponent.fromLegacyText(toMessage(key, args));
+    }
+
+    /**
+     * Converts the ICU-style message of the translation key into an array of BaseComponent objects using named arguments.
+     *
+     * @param key  the translation key used to fetch the corresponding localized message
+     * @param args an array of {@link SimpleComponent} objects providing the values of the named arguments
+     * @return an array of BaseComponent objects representing the formatted message
+     * @see BaseLoader#toMessage(String, SimpleComponent...)
+     */
+    public @NotNull net.md_5.bungee.api.chat.BaseComponent[] toBaseComponentMessage(@NotNull String key, @NotNull SimpleComponent... args) {
+        return net.md_5.bungee.api.chat.TextComponent.fromLegacyText(toMessage(key, args));
+    }
+
+    /**
+     * Converts the lines of the localized value for the provided key into BaseComponent arrays, one per line.
+     *
+     * @param key the translation key used to fetch the corresponding localized lines
+     * @return an immutable list of BaseComponent arrays, one for each line
+     * @see #toLines(String)
+     */
+    public @NotNull List<net.md_5.bungee.api.chat.BaseComponent[]> toBaseComponentLines(@NotNull String key) {
+        return toBaseComponents(toLines(key));
+    }
+
+    /**
+     * Converts the lines of the localized value for the provided key into BaseComponent arrays,
+     * formatting each line with the provided arguments.
+     *
+     * @param key  the translation key used to fetch the corresponding localized lines
+     * @param args the arguments to format every line
+     * @return an immutable list of BaseComponent arrays, one for each line
+     * @see #toLines(String, Object...)
+     */
+    public @NotNull List<net.md_5.bungee.api.chat.BaseComponent[]> toBaseComponentLines(@NotNull String key, @NotNull Object... args) {
+        return toBaseComponents(toLines(key, args));
+    }
+
+    /**
+     * Converts the lines of the localized value for the provided key into BaseComponent arrays,
+     * replacing the "{}" placeholders in order across all lines.
+     *
+     * @param key  the translation key used to fetch the corresponding localized lines
+     * @param args the arguments to replace the "{}" placeholders within the lines
+     * @return an immutable list of BaseComponent arrays, one for each line
+     * @see #toLinesBrace(String, Object...)
+     */
+    public @NotNull List<net.md_5.bungee.api.chat.BaseComponent[]> toBaseComponentLinesBrace(@NotNull String key, @NotNull Object... args) {
+        return toBaseComponents(toLinesBrace(key, args));
+    }
+
+    /**
+     * Converts the lines of the localized value for the provided key into BaseComponent arrays,
+     * replacing the "{keyword}" placeholders of every line.
+     *
+     * @param key  the translation key used to fetch the corresponding localized lines
+     * @param args an array of {@link SimpleComponent} objects that provide the values for placeholders
+     * @return an immutable list of BaseComponent arrays, one for each line
+     * @see #toLinesBrace(String, SimpleComponent...)
+     */
+    public @NotNull List<net.md_5.bungee.api.chat.BaseComponent[]> toBaseComponentLinesBrace(@NotNull String key, @NotNull SimpleComponent... args) {
+        return toBaseComponents(toLinesBrace(key, args));
+    }
+
+    private static @NotNull List<net.md_5.bungee.api.chat.BaseComponent[]> toBaseComponents(@NotNull List<String> lines) {
+        net.md_5.bungee.api.chat.BaseComponent[][] result = new net.md_5.bungee.api.chat.BaseComponent[lines.size()][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = net.md_5.bungee.api.chat.TextComponent.fromLegacyText(lines.get(i));
+        }
+        return List.of(result);
+    }
 }
@@ -0,0 +1,175 @@
+package one.tranic.t.i18n;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+/**
+ * The placeholders that differ between the default locale of a loader and its other loaded locales.
+ * <p>
+ * A translation that drops or renames a {@code {}}, {@code {name}} or {@code %s} placeholder,
+ * or whose plural and select syntax does not parse, is reported once per key and locale.
+ * Other unmatched braces are literal text and are not reported:
+ * <pre>{@code
+ * loader.setPlaceholderCheck(PlaceholderCheck.REPORT);
+ * loader.update();
+ * for (ConsistencyReport.Issue issue : loader.getConsistencyReport().issues())
+ *     logger.warning(issue.toString());
+ * }</pre>
+ * Keys missing from a locale are not reported, they fall back to the key itself as before.
+ */
+public final class ConsistencyReport {
+    public static final ConsistencyReport EMPTY = new ConsistencyReport(null, List.of());
+
+    private static final Comparator<Issue> ORDER = Comparator
+            .comparing((Issue issue) -> issue.locale().toLanguageTag())
+            .thenComparing(Issue::key);
+
+    private final @Nullable Locale reference;
+    private final @NotNull List<Issue> issues;
+
+    private ConsistencyReport(@Nullable Locale reference, @NotNull List<Issue> issues) {
+        this.reference = reference;
+        this.issues = issues;
+    }
+
+    /**
+     * Compares every given bundle against the reference bundle.
+     *
+     * @param reference the default locale
+     * @param bundle    the bundle of the default locale
+     * @param others    the bundles of the other loaded locales
+     * @return the report
+     */
+    static @NotNull ConsistencyReport check(@NotNull Locale reference, @NotNull Bundle bundle, @NotNull Map<Locale, Bundle> others) {
+        List<Issue> issues = new ArrayList<>(compare(reference, bundle, null));
+        for (Map.Entry<Locale, Bundle> entry : others.entrySet()) {
+            if (entry.getKey().equals(reference)) continue;
+            issues.addAll(compare(entry.getKey(), entry.getValue(), bundle));
+        }
+        issues.sort(ORDER);
+        return new ConsistencyReport(reference, List.copyOf(issues));
+    }
+
+    /**
+     * Compares the templates of a bundle against those of the reference bundle, in parallel for large bundles.
+     *
+     * @param locale    the locale of the bundle
+     * @param bundle    the bundle to check
+     * @param reference the bundle of the default locale, or null to only report syntax errors
+     * @return the issues of the bundle, sorted by key
+     */
+    static @NotNull List<Issue> compare(@NotNull Locale locale, @NotNull Bundle bundle, @Nullable Bundle reference) {
+        ConcurrentLinkedQueue<Issue> issues = new ConcurrentLinkedQueue<>();
+        IntStream indexes = IntStream.range(0, bundle.size());
+        if (bundle.size() >= Bundle.PARALLEL_THRESHOLD) indexes = indexes.parallel();
+        indexes.forEach(index -> {
+            String key = bundle.key(index);
+            Template template = bundle.inspect(index);
+            if (template.error() != null) {
+                issues.add(new Issue(locale, key, Kind.SYNTAX, "", template.error()));
+                return;
+            }
+            if (reference == null) return;
+
+            Template expected = reference.inspect(key);
+            if (expected != null && expected.error() == null && !template.sameSignature(expected))
+                issues.add(new Issue(locale, key, Kind.MISMATCH, expected.signature(), template.signature()));
+        });
+
+        List<Issue> result = new ArrayList<>(issues);
+        result.sort(ORDER);
+        return result;
+    }
+
+    /**
+     * Returns a copy of this report in which the issues of the given locale are replaced.
+     */
+    @NotNull ConsistencyReport with(@NotNull Locale reference, @NotNull Locale locale, @NotNull List<Issue> replacement) {
+        List<Issue> result = new ArrayList<>();
+        if (reference.equals(this.reference)) {
+            for (Issue issue : issues) {
+                if (!issue.locale().equals(locale)) result.add(issue);
+            }
+        }
+        result.addAll(replacement);
+        result.sort(ORDER);
+        return new ConsistencyReport(reference, List.copyOf(result));
+    }
+
+    /**
+     * @return the default locale the other locales were compared against, or null for {@link #EMPTY}
+     */
+    public @Nullable Locale getReference() {
+        return reference;
+    }
+
+    /**
+     * @return every issue, sorted by locale and key
+     */
+    public @NotNull List<Issue> issues() {
+        return issues;
+    }
+
+    /**
+     * @param locale the locale to filter on
+     * @return the issues of the given locale, sorted by key
+     */
+    public @NotNull List<Issue> issues(@NotNull Locale locale) {
+        List<Issue> result = new ArrayList<>();
+        for (Issue issue : issues) {
+            if (issue.locale().equals(locale)) result.add(issue);
+        }
+        return result;
+    }
+
+    public boolean isEmpty() {
+        return issues.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ConsistencyReport{reference=").append(reference)
+                .append(", issues=").append(issues.size());
+        for (Issue issue : issues) {
+            sb.append("\n  ").append(issue);
+        }
+        return sb.append('}').toString();
+    }
+
+    public enum Kind {
+        /**
+         * The value takes other placeholders than the value of the default locale.
+         */
+        MISMATCH,
+        /**
+         * A plural, select or typed argument of the value does not parse, it is rendered as written.
+         */
+        SYNTAX
+    }
+
+    /**
+     * One key of one locale whose placeholders are inconsistent.
+     *
+     * @param locale   the locale of the value
+     * @param key      the translation key
+     * @param kind     the kind of issue
+     * @param expected the signature of the default locale, empty for syntax errors
+     * @param actual   the signature of the value, or the parse error
+     */
+    public record Issue(@NotNull Locale locale, @NotNull String key, @NotNull Kind kind,
+                        @NotNull String expected, @NotNull String actual) {
+        @Override
+        public String toString() {
+            if (kind == Kind.SYNTAX) return locale + " " + key + ": " + actual;
+            return locale + " " + key + ": expected [" + expected + "] but found [" + actual + ']';
+        }
+    }
+}
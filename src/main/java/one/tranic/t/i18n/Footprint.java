@@ -0,0 +1,149 @@
+package one.tranic.t.i18n;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An estimate of the memory retained by loaded translations, broken down per locale and per source.
+ * <p>
+ * Sizes are computed from the object layout of a 64-bit JVM with compressed references, the same way
+ * as {@link Bundle#heapBytes()}, so they can be compared between storage modes and between builds
+ * without taking a heap dump:
+ * <pre>{@code
+ * Footprint footprint = locales.getFootprint();
+ * logger.info(footprint.toString());
+ * long bytes = footprint.getLocales().get(Locale.GERMAN).heapBytes();
+ * }</pre>
+ * The usage of a source only counts the entries taken from it; the lookup index and the arrays shared by all
+ * entries of a bundle are counted for the locale only. Bundles loaded from an input stream or a snapshot have no source.
+ */
+public final class Footprint {
+    public static final Footprint EMPTY = new Footprint(Map.of(), Map.of());
+
+    private final @NotNull Map<Locale, Usage> locales;
+    private final @NotNull Map<String, Usage> sources;
+
+    Footprint(@NotNull Map<Locale, Usage> locales, @NotNull Map<String, Usage> sources) {
+        this.locales = Collections.unmodifiableMap(locales);
+        this.sources = Collections.unmodifiableMap(sources);
+    }
+
+    static @NotNull String formatBytes(long bytes) {
+        if (bytes < 1024) return bytes + " B";
+        if (bytes < 1024 * 1024) return String.format(Locale.ROOT, "%.1f KiB", bytes / 1024.0);
+        return String.format(Locale.ROOT, "%.1f MiB", bytes / (1024.0 * 1024.0));
+    }
+
+    private static <K> void merge(@NotNull Map<K, Usage> target, @NotNull Map<K, Usage> source) {
+        for (Map.Entry<K, Usage> entry : source.entrySet()) {
+            target.merge(entry.getKey(), entry.getValue(), Usage::plus);
+        }
+    }
+
+    /**
+     * Combines two footprints, usages of the same locale or source are added up.
+     *
+     * @param other the footprint to add
+     * @return a new footprint
+     */
+    public @NotNull Footprint plus(@NotNull Footprint other) {
+        Map<Locale, Usage> locales = new LinkedHashMap<>(this.locales);
+        merge(locales, other.locales);
+        Map<String, Usage> sources = new LinkedHashMap<>(this.sources);
+        merge(sources, other.sources);
+        return new Footprint(locales, sources);
+    }
+
+    /**
+     * @return the usage of every locale, in the order they were measured
+     */
+    public @NotNull Map<Locale, Usage> getLocales() {
+        return locales;
+    }
+
+    /**
+     * @return the usage of the entries taken from every source, keyed by the description of the source
+     */
+    public @NotNull Map<String, Usage> getSources() {
+        return sources;
+    }
+
+    /**
+     * @return the sum of the usage of every locale
+     */
+    public @NotNull Usage getTotal() {
+        Usage total = Usage.ZERO;
+        for (Usage usage : locales.values()) {
+            total = total.plus(usage);
+        }
+        return total;
+    }
+
+    public long heapBytes() {
+        return getTotal().heapBytes();
+    }
+
+    public long offHeapBytes() {
+        return getTotal().offHeapBytes();
+    }
+
+    @Override
+    public String toString() {
+        Usage total = getTotal();
+        StringBuilder sb = new StringBuilder("Footprint{heap=").append(formatBytes(total.heapBytes()))
+                .append(", offHeap=").append(formatBytes(total.offHeapBytes()));
+        for (Map.Entry<Locale, Usage> entry : locales.entrySet()) {
+            sb.append("\n  locale ").append(entry.getKey()).append(": ").append(entry.getValue());
+        }
+        for (Map.Entry<String, Usage> entry : sources.entrySet()) {
+            sb.append("\n  source ").append(entry.getKey()).append(": ").append(entry.getValue());
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * The estimated bytes of a group of entries.
+     *
+     * @param entries      the number of entries
+     * @param keys         the key strings and their slots in the key array
+     * @param values       the value strings on heap, or the offsets, decoded sizes and decode cache of off-heap values
+     * @param lines        the pre-split lines of multiline and list values
+     * @param templates    the compiled message templates
+     * @param index        the hash index, the layer origins and the array headers
+     * @param caches       the components cached by translators
+     * @param offHeapBytes the bytes stored outside the Java heap
+     */
+    public record Usage(int entries, long keys, long values, long lines, long templates,
+                        long index, long caches, long offHeapBytes) {
+        public static final Usage ZERO = new Usage(0, 0, 0, 0, 0, 0, 0, 0);
+
+        /**
+         * @return the estimated heap bytes of every part
+         */
+        public long heapBytes() {
+            return keys + values + lines + templates + index + caches;
+        }
+
+        public @NotNull Usage plus(@NotNull Usage other) {
+            return new Usage(entries + other.entries, keys + other.keys, values + other.values, lines + other.lines,
+                    templates + other.templates, index + other.index, caches + other.caches, offHeapBytes + other.offHeapBytes);
+        }
+
+        @Override
+        public String toString() {
+            return "entries=" + entries +
+                    ", heap=" + formatBytes(heapBytes()) +
+                    " (keys=" + formatBytes(keys) +
+                    ", values=" + formatBytes(values) +
+                    ", lines=" + formatBytes(lines) +
+                    ", templates=" + formatBytes(templates) +
+                    ", index=" + formatBytes(index) +
+                    ", caches=" + formatBytes(caches) +
+                    "), offHeap=" + formatBytes(offHeapBytes);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package one.tranic.t.i18n;
 
 import one.tranic.t.i18n.loader.I18n;
+import one.tranic.t.i18n.loader.Source;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Locale;
 
 public class KyoriLoader extends BaseLoader {
@@ -33,6 +35,20 @@ public class KyoriLoader extends BaseLoader {
         super(file, path, clazz, namespace, locale, adaptar);
     }
 
+    public KyoriLoader(@NotNull List<Source> layers, @Nullable Locale locale) throws IllegalArgumentException {
+        super(layers, locale);
+    }
+
+    protected KyoriLoader(@NotNull KyoriLoader loader, @NotNull Locale locale, @NotNull Bundle bundle) {
+        super(loader, locale, bundle);
+    }
+
+    @Override
+    public @NotNull KyoriLoader forLocale(@NotNull Locale locale) {
+        KyoriLoader root = (KyoriLoader) root();
+        return new KyoriLoader(root, locale, root.bundleFor(locale));
+    }
+
     @Override
     public String toString() {
         return toString("KyoriLoader");
@@ -106,6 +122,35 @@ public class KyoriLoader extends BaseLoader {
         return net.kyori.adventure.text.Component.text(toBrace(key, args));
     }
 
+    /**
+     * Converts the ICU-style message of the translation key into an Adventure Component.
+     * <p>
+     * For example:
+     * <pre>{@code
+     * "{0, plural, one {# item} other {# items}}" with arg 5 produces "5 items"
+     * }</pre>
+     *
+     * @param key  the translation key used to fetch the corresponding localized message
+     * @param args the arguments referenced as {@code {0}}, {@code {1}}, or in order as {@code {}}
+     * @return an Adventure Component containing the formatted message, or the key itself if no translation exists
+     * @see BaseLoader#toMessage(String, Object...)
+     */
+    public @NotNull net.kyori.adventure.text.Component toComponentMessage(@NotNull String key, @NotNull Object... args) {
+        return net.kyori.adventure.text.Component.text(toMessage(key, args));
+    }
+
+    /**
+     * Converts the ICU-style message of the translation key into an Adventure Component using named arguments.
+     *
+     * @param key  the translation key used to fetch the corresponding localized message
+     * @param args an array of {@link SimpleComponent} objects providing the values of the named arguments
+     * @return an Adventure Component containing the formatted message, or the key itself if no translation exists
+     * @see BaseLoader#toMessage(String, SimpleComponent...)
+     */
+    public @NotNull net.kyori.adventure.text.Component toComponentMessage(@NotNull String key, @NotNull SimpleComponent... args) {
+        return net.kyori.adventure.text.Component.text(toMessage(key, args));
+    }
+
     /**
      * Converts the translation key into a {@link net.kyori.adventure.text.Component} using MiniMessage format.
      * <p>
@@ -128,4 +173,85 @@ public class KyoriLoader extends BaseLoader {
             return net.kyori.adventure.text.minimessage.MiniMessage.miniMessage().deserialize(text, tagResolvers);
         return net.kyori.adventure.text.Component.text(key);
     }
+
+    /**
+     * Converts the lines of the localized value for the provided key into Adventure Components, one per line.
+     *
+     * @param key the translation key used to fetch the corresponding localized lines
+     * @return an immutable list of Components, one for each line
+     * @see #toLines(String)
+     */
+    public @NotNull List<net.kyori.adventure.text.Component> toComponentLines(@NotNull String key) {
+        return toComponents(toLines(key));
+    }
+
+    /**
+     * Converts the lines of the localized value for the provided key into Adventure Components,
+     * formatting each line with the provided arguments.
+     *
+     * @param key  the translation key used to fetch the corresponding localized lines
+     * @param args the arguments to format every line
+     * @return an immutable list of Components, one for each line
+     * @see #toLines(String, Object...)
+     */
+    public @NotNull List<net.kyori.adventure.text.Component> toComponentLines(@NotNull String key, @NotNull Object... args) {
+        return toComponents(toLines(key, args));
+    }
+
+    /**
+     * Converts the lines of the localized value for the provided key into Adventure Components,
+     * replacing the "{}" placeholders in order across all lines.
+     *
+     * @param key  the translation key used to fetch the corresponding localized lines
+     * @param args the arguments to replace the "{}" placeholders within the lines
+     * @return an immutable list of Components, one for each line
+     * @see #toLinesBrace(String, Object...)
+     */
+    public @NotNull List<net.kyori.adventure.text.Component> toComponentLinesBrace(@NotNull String key, @NotNull Object... args) {
+        return toComponents(toLinesBrace(key, args));
+    }
+
+    /**
+     * Converts the lines of the localized value for the provided key into Adventure Components,
+     * replacing the "{keyword}" placeholders of every line.
+     *
+     * @param key  the translation key used to fetch the corresponding localized lines
+     * @param args an array of {@link SimpleComponent} objects that provide the values for placeholders
+     * @return an immutable list of Components, one for each line
+     * @see #toLinesBrace(String, SimpleComponent...)
+     */
+    public @NotNull List<net.kyori.adventure.text.Component> toComponentLinesBrace(@NotNull String key, @NotNull SimpleComponent... args) {
+        return toComponents(toLinesBrace(key, args));
+    }
+
+    /**
+     * Converts the lines of the localized value for the provided key into Components using MiniMessage format,
+     * each line is deserialized on its own.
+     *
+     * @param key          the translation key used to fetch the corresponding localized lines
+     * @param tagResolvers optional tag resolvers used to process placeholders or tags within the lines
+     * @return an immutable list of Components, one for each line,
+     * or a single plain text component containing the key if no translation exists
+     * @see <a href="https://docs.advntr.dev/minimessage/format.html">MiniMessage Format</a>
+     */
+    public @NotNull List<net.kyori.adventure.text.Component> toComponentLines(@NotNull String key, @NotNull net.kyori.adventure.text.minimessage.tag.resolver.TagResolver... tagResolvers) {
+        List<String> lines = toLines(key);
+        if (lines.size() == 1 && lines.get(0).equals(key))
+            return List.of(net.kyori.adventure.text.Component.text(key));
+
+        net.kyori.adventure.text.minimessage.MiniMessage miniMessage = net.kyori.adventure.text.minimessage.MiniMessage.miniMessage();
+        net.kyori.adventure.text.Component[] result = new net.kyori.adventure.text.Component[lines.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = miniMessage.deserialize(lines.get(i), tagResolvers);
+        }
+        return List.of(result);
+    }
+
+    private static @NotNull List<net.kyori.adventure.text.Component> toComponents(@NotNull List<String> lines) {
+        net.kyori.adventure.text.Component[] result = new net.kyori.adventure.text.Component[lines.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = net.kyori.adventure.text.Component.text(lines.get(i));
+        }
+        return List.of(result);
+    }
 }
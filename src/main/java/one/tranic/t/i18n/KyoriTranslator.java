@@ -0,0 +1,273 @@
+package one.tranic.t.i18n;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.translation.Translator;
+import net.kyori.adventure.util.TriState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An Adventure {@link Translator} backed by the bundles of one or more loaders, one loader per locale.
+ * <p>
+ * Register it once with the global translator and send {@link TranslatableComponent}s,
+ * Adventure then renders them lazily for every viewer from the per (key, locale) caches of this translator:
+ * <pre>{@code
+ * KyoriTranslator translator = new KyoriTranslator(Key.key("myplugin", "messages"));
+ * translator.register(englishLoader);
+ * translator.register(germanLoader);
+ * GlobalTranslator.translator().addSource(translator);
+ *
+ * audience.sendMessage(Component.translatable("goldpiglin.test1"));
+ * }</pre>
+ * Values are rendered with the same templates as {@link BaseLoader#toMessage(String, Object...)}, never through
+ * {@link MessageFormat}: arguments use the {@code {0}} syntax, plural and select forms follow the bundle's locale,
+ * and a single quote is literal unless it is followed by a brace, so {@code "Don't {0}"} needs no escaping.
+ * Numeric arguments select plural forms, component arguments are inserted as they are.
+ * Values containing MiniMessage tags are deserialized with the arguments as placeholders,
+ * values without arguments are deserialized once and cached as {@link Component}s.
+ * <p>
+ * Each cache is bound to the {@link Bundle} it was compiled from and is dropped as soon as the loader installs a new one.
+ */
+public class KyoriTranslator implements Translator {
+    private static final boolean miniMessage;
+
+    static {
+        boolean v2 = false;
+        try {
+            Class.forName("net.kyori.adventure.text.minimessage.MiniMessage");
+            v2 = true;
+        } catch (Exception ignored) {
+        }
+        miniMessage = v2;
+    }
+
+    private final @NotNull Key name;
+    private final @NotNull Map<Locale, BaseLoader> loaders = new ConcurrentHashMap<>();
+    private final @NotNull Map<Locale, Cache> caches = new ConcurrentHashMap<>();
+
+    public KyoriTranslator(@NotNull Key name) {
+        this.name = name;
+    }
+
+    @Override
+    public @NotNull Key name() {
+        return name;
+    }
+
+    @Override
+    public @NotNull TriState hasAnySourceTranslations() {
+        return loaders.isEmpty() ? TriState.FALSE : TriState.TRUE;
+    }
+
+    /**
+     * Registers a loader for the locale it is currently set to.
+     *
+     * @param loader the loader providing the translations; its language must be set
+     * @throws IllegalArgumentException if the loader has no language set
+     */
+    public void register(@NotNull BaseLoader loader) throws IllegalArgumentException {
+        Locale locale = loader.getLanguage();
+        if (locale == null) throw new IllegalArgumentException("Loader has no language set: " + loader);
+        register(locale, loader);
+    }
+
+    /**
+     * Registers a loader for the given locale, replacing any loader previously registered for it.
+     *
+     * @param locale the locale the loader provides translations for
+     * @param loader the loader providing the translations
+     */
+    public void register(@NotNull Locale locale, @NotNull BaseLoader loader) {
+        loaders.put(locale, loader);
+        caches.clear();
+    }
+
+    /**
+     * Removes the loader registered for the given locale.
+     *
+     * @param locale the locale to remove
+     */
+    public void unregister(@NotNull Locale locale) {
+        loaders.remove(locale);
+        caches.clear();
+    }
+
+    /**
+     * Estimates the memory retained by the bundles of the registered loaders and by the caches of this translator.
+     * <p>
+     * Cached {@link Component}s are estimated from the size of their source text,
+     * which is not decoded again, their internal layout is not inspected.
+     *
+     * @return the footprint, broken down per locale and per source
+     */
+    public @NotNull Footprint getFootprint() {
+        Footprint footprint = Footprint.EMPTY;
+        for (Map.Entry<Locale, BaseLoader> entry : loaders.entrySet()) {
+            footprint = footprint.plus(entry.getValue().getBundle().footprint(entry.getKey()));
+        }
+        for (Map.Entry<Locale, Cache> entry : caches.entrySet()) {
+            Footprint.Usage usage = new Footprint.Usage(0, 0, 0, 0, 0, 0, entry.getValue().heapBytes(), 0);
+            footprint = footprint.plus(new Footprint(Map.of(entry.getKey(), usage), Map.of()));
+        }
+        return footprint;
+    }
+
+    /**
+     * Drops every cached {@link Component}, the next render deserializes them again.
+     */
+    public void invalidate() {
+        caches.clear();
+    }
+
+    /**
+     * Always returns null, every value is rendered by {@link #translate(TranslatableComponent, Locale)}
+     * so that no bundle text is ever parsed as a {@link MessageFormat}.
+     */
+    @Override
+    public @Nullable MessageFormat translate(@NotNull String key, @NotNull Locale locale) {
+        return null;
+    }
+
+    @Override
+    public @Nullable Component translate(@NotNull TranslatableComponent component, @NotNull Locale locale) {
+        Cache cache = cache(locale);
+        if (cache == null) return null;
+
+        List<TranslationArgument> arguments = component.arguments();
+        Component result = arguments.isEmpty() ? cache.component(component.key()) : cache.render(component.key(), arguments);
+        if (result == null) return null;
+
+        result = result.applyFallbackStyle(component.style());
+        if (!component.children().isEmpty()) {
+            List<ComponentLike> children = new ArrayList<>(result.children());
+            children.addAll(component.children());
+            result = result.children(children);
+        }
+        return result;
+    }
+
+    private @Nullable Cache cache(@NotNull Locale locale) {
+        Cache cache = caches.get(locale);
+        if (cache != null && cache.bundle == cache.loader.getBundle()) return cache;
+
+        BaseLoader loader = loaders.get(locale);
+        if (loader == null && !locale.getCountry().isEmpty())
+            loader = loaders.get(new Locale(locale.getLanguage()));
+        if (loader == null) return null;
+
+        cache = new Cache(locale, loader);
+        caches.put(locale, cache);
+        return cache;
+    }
+
+    @Override
+    public String toString() {
+        return "KyoriTranslator{" +
+                "name=" + name +
+                ", locales=" + loaders.keySet() +
+                '}';
+    }
+
+    private static final class Cache {
+        private static final int MAP_ENTRY_BYTES = 32;
+        private static final int COMPONENT_BYTES = 96;
+        private static final String ARGUMENT_TAG = "t-i18n-arg-";
+        private static final Object[] NO_ARGS = new Object[0];
+
+        private final @NotNull BaseLoader loader;
+        private final @NotNull Bundle bundle;
+        private final @NotNull Locale locale;
+        private final @NotNull Map<String, Optional<Component>> components = new ConcurrentHashMap<>();
+
+        private Cache(@NotNull Locale locale, @NotNull BaseLoader loader) {
+            this.loader = loader;
+            this.bundle = loader.getBundle();
+            this.locale = bundle.locale() != null ? bundle.locale() : locale;
+        }
+
+        private long heapBytes() {
+            long bytes = 48 + 64 + Bundle.arrayBytes(components.size() * 2, Bundle.REFERENCE_BYTES);
+            for (Map.Entry<String, Optional<Component>> entry : components.entrySet()) {
+                bytes += MAP_ENTRY_BYTES + Bundle.stringBytes(entry.getKey()) + 16;
+                if (entry.getValue().isPresent())
+                    bytes += COMPONENT_BYTES + bundle.decodedBytes(entry.getKey());
+            }
+            return bytes;
+        }
+
+        private @Nullable Component component(@NotNull String key) {
+            return components.computeIfAbsent(key, k -> {
+                Template template = bundle.template(k);
+                if (template == null) return Optional.empty();
+                return Optional.of(render(template, NO_ARGS, new Component[0]));
+            }).orElse(null);
+        }
+
+        /**
+         * Renders a value with arguments, numbers and booleans are formatted by the template
+         * while components are inserted in place of a placeholder tag.
+         */
+        private @Nullable Component render(@NotNull String key, @NotNull List<TranslationArgument> arguments) {
+            Template template = bundle.template(key);
+            if (template == null) return null;
+
+            Object[] args = new Object[arguments.size()];
+            Component[] components = new Component[arguments.size()];
+            for (int i = 0; i < args.length; i++) {
+                TranslationArgument argument = arguments.get(i);
+                Object value = argument.value();
+                if (value instanceof Number || value instanceof Boolean) {
+                    args[i] = value;
+                } else {
+                    args[i] = "<" + ARGUMENT_TAG + i + ">";
+                    components[i] = argument.asComponent();
+                }
+            }
+            return render(template, args, components);
+        }
+
+        private @NotNull Component render(@NotNull Template template, @NotNull Object[] args, @NotNull Component[] components) {
+            String text = template.format(locale, args, null);
+            if (miniMessage && template.source().indexOf('<') != -1) {
+                List<net.kyori.adventure.text.minimessage.tag.resolver.TagResolver> resolvers = new ArrayList<>();
+                for (int i = 0; i < components.length; i++) {
+                    if (components[i] != null)
+                        resolvers.add(net.kyori.adventure.text.minimessage.tag.resolver.Placeholder.component(ARGUMENT_TAG + i, components[i]));
+                }
+                return net.kyori.adventure.text.minimessage.MiniMessage.miniMessage().deserialize(text,
+                        resolvers.toArray(new net.kyori.adventure.text.minimessage.tag.resolver.TagResolver[0]));
+            }
+
+            List<Component> parts = new ArrayList<>();
+            int from = 0;
+            String open = "<" + ARGUMENT_TAG;
+            for (int start = text.indexOf(open); start != -1; start = text.indexOf(open, start + 1)) {
+                int end = start + open.length();
+                int index = 0;
+                while (end < text.length() && end - start - open.length() < 9 && Character.isDigit(text.charAt(end)))
+                    index = index * 10 + (text.charAt(end++) - '0');
+                if (end == start + open.length() || end == text.length() || text.charAt(end) != '>'
+                        || index >= components.length || components[index] == null) continue;
+
+                if (start > from) parts.add(Component.text(text.substring(from, start)));
+                parts.add(components[index]);
+                from = end + 1;
+            }
+            if (parts.isEmpty()) return Component.text(text);
+            if (from < text.length()) parts.add(Component.text(text.substring(from)));
+            return Component.text("").children(parts);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package one.tranic.t.i18n;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the bundles of additional locales lazily, next to the locale a {@link BaseLoader} is set to.
+ * <p>
+ * The first request for a locale starts loading it on the executor and returns the loader's own bundle,
+ * the default locale, until the load has finished. Concurrent requests share a single load.
+ * A region such as {@code de_AT} is served from its language {@code de} while it is loading or if it failed to load.
+ * Once the cache holds more locales or bytes than its budget, the locales that were used least recently
+ * are evicted, only loaded locales count towards the budget. The default locale is owned by the loader
+ * and is never evicted.
+ * <p>
+ * A locale without translation files is remembered as missing and served from its language right away,
+ * it is neither logged nor retried until the loader is updated. Any other failed load is logged and retried
+ * on a later request, after a delay doubling from one second to five minutes.
+ * <p>
+ * Cached bundles are bound to the loader's bundle they were loaded next to,
+ * after the loader is updated they keep being served while they are reloaded in the background.
+ * <pre>{@code
+ * LocaleCache locales = new LocaleCache(loader, executor, 8, 0);
+ * String text = locales.get(player.getLocale()).get("goldpiglin.test1");
+ * }</pre>
+ */
+public class LocaleCache {
+    private static final System.Logger LOGGER = System.getLogger(LocaleCache.class.getName());
+    private static final long RETRY_MIN = TimeUnit.SECONDS.toNanos(1);
+    private static final long RETRY_MAX = TimeUnit.MINUTES.toNanos(5);
+
+    private final @NotNull BaseLoader loader;
+    private final @NotNull Executor executor;
+    private final int maxLocales;
+    private final long maxBytes;
+    private final @NotNull Map<Locale, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an unbounded cache loading on two shared daemon threads, so that file reads never block the common pool.
+     *
+     * @param loader the loader providing the layers and the default locale
+     */
+    public LocaleCache(@NotNull BaseLoader loader) {
+        this(loader, DefaultExecutor.INSTANCE, 0, 0);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param loader     the loader providing the layers and the default locale
+     * @param executor   the executor locales are loaded on, {@code Runnable::run} loads on the calling thread
+     * @param maxLocales the maximum number of cached locales besides the default one, 0 for no limit
+     * @param maxBytes   the maximum estimated heap and off-heap bytes of the cached locales, 0 for no limit
+     */
+    public LocaleCache(@NotNull BaseLoader loader, @NotNull Executor executor, int maxLocales, long maxBytes) {
+        this.loader = loader.root();
+        this.executor = executor;
+        this.maxLocales = maxLocales;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @return the loader providing the layers and the default locale
+     */
+    public @NotNull BaseLoader getLoader() {
+        return loader;
+    }
+
+    /**
+     * Retrieves the bundle of the given locale, starting to load it if needed.
+     *
+     * @param locale the requested locale
+     * @return the bundle of the locale, or the bundle of its language or of the default locale
+     * while it is loading or if it failed to load
+     */
+    public @NotNull Bundle get(@NotNull Locale locale) {
+        Bundle fallback = loader.getBundle();
+        if (locale.equals(loader.getLanguage())) return fallback;
+
+        Entry entry = entry(locale, fallback);
+        entry.lastAccess = System.nanoTime();
+        Bundle bundle = entry.bundle;
+        if (bundle != null) return bundle;
+
+        if (locale.getCountry().isEmpty() && locale.getVariant().isEmpty()) return fallback;
+        return get(new Locale(locale.getLanguage()));
+    }
+
+    /**
+     * Loads the given locale if needed.
+     *
+     * @param locale the requested locale
+     * @return a future completed with the bundle of the locale, or exceptionally if it could not be loaded
+     */
+    public @NotNull CompletableFuture<Bundle> load(@NotNull Locale locale) {
+        Bundle fallback = loader.getBundle();
+        if (locale.equals(loader.getLanguage())) return CompletableFuture.completedFuture(fallback);
+
+        Entry entry = entry(locale, fallback);
+        entry.lastAccess = System.nanoTime();
+        return entry.future;
+    }
+
+    /**
+     * Checks whether the given locale is loaded and served from the cache, the default locale always is.
+     *
+     * @param locale the locale to check
+     * @return {@code true} if requests for the locale no longer fall back to the default locale
+     */
+    public boolean isLoaded(@NotNull Locale locale) {
+        if (locale.equals(loader.getLanguage())) return true;
+        Entry entry = entries.get(locale);
+        return entry != null && entry.bundle != null;
+    }
+
+    /**
+     * @return the locales currently held by the cache, including those still loading
+     */
+    public @NotNull Set<Locale> getLocales() {
+        return Set.copyOf(entries.keySet());
+    }
+
+    /**
+     * Captures the default locale and every loaded locale for export, locales still loading are skipped.
+     *
+     * @return a snapshot of the loaded bundles
+     */
+    public @NotNull Snapshot snapshot() {
+        Map<Locale, Bundle> bundles = new LinkedHashMap<>(loader.snapshot().bundles());
+        for (Map.Entry<Locale, Entry> e : entries.entrySet()) {
+            Bundle bundle = e.getValue().bundle;
+            if (bundle != null) bundles.putIfAbsent(e.getKey(), bundle);
+        }
+        return new Snapshot(bundles);
+    }
+
+    /**
+     * Installs every locale of a snapshot, the default locale into the loader and the others into this cache.
+     * <p>
+     * Installed locales are served as loaded until the loader is updated again,
+     * after which they are reloaded from its layers like any other cached locale.
+     *
+     * @param snapshot the snapshot, typically received from another server
+     * @throws IOException if the snapshot does not contain the default locale
+     */
+    public void update(@NotNull Snapshot snapshot) throws IOException {
+        loader.update(snapshot);
+        Bundle base = loader.getBundle();
+        for (Map.Entry<Locale, Bundle> e : snapshot.bundles().entrySet()) {
+            if (e.getKey().equals(loader.getLanguage())) continue;
+            Bundle bundle = e.getValue();
+            Entry entry = new Entry(base, bundle, bundle.heapBytes() + bundle.offHeapBytes());
+            entry.future.complete(bundle);
+            entries.put(e.getKey(), entry);
+            evict(entry);
+        }
+    }
+
+    /**
+     * Estimates the memory retained by the default locale and by every cached locale,
+     * including bundles that are still served while they are reloaded.
+     *
+     * @return the footprint, broken down per locale and per source
+     */
+    public @NotNull Footprint getFootprint() {
+        Footprint footprint = loader.getFootprint();
+        for (Map.Entry<Locale, Entry> e : entries.entrySet()) {
+            Bundle bundle = e.getValue().bundle;
+            if (bundle != null) footprint = footprint.plus(bundle.footprint(e.getKey()));
+        }
+        return footprint;
+    }
+
+    /**
+     * Evicts the locales that have not been requested for the given duration.
+     *
+     * @param idle the minimum time since the last request of an evicted locale
+     */
+    public void evictIdle(@NotNull Duration idle) {
+        long deadline = System.nanoTime() - idle.toNanos();
+        entries.values().removeIf(entry -> entry.future.isDone() && entry.lastAccess - deadline < 0);
+    }
+
+    /**
+     * Drops every cached locale, they are loaded again on their next request.
+     */
+    public void invalidate() {
+        entries.clear();
+    }
+
+    private @NotNull Entry entry(@NotNull Locale locale, @NotNull Bundle base) {
+        Entry entry = entries.get(locale);
+        if (entry != null && entry.base == base && !entry.retry()) return entry;
+
+        Entry created = entry != null ? new Entry(base, entry.bundle, entry.bytes) : new Entry(base, null, 0);
+        if (entry != null && entry.base == base) created.failures = entry.failures;
+        if (entry == null) {
+            entry = entries.putIfAbsent(locale, created);
+            if (entry != null) return entry;
+        } else if (!entries.replace(locale, entry, created)) {
+            Entry current = entries.get(locale);
+            return current != null ? current : created;
+        }
+
+        try {
+            executor.execute(() -> load(locale, created));
+        } catch (RuntimeException e) {
+            created.failures++;
+            created.failedAt = System.nanoTime();
+            created.future.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private void load(@NotNull Locale locale, @NotNull Entry entry) {
+        try {
+            Bundle bundle = loader.load(locale);
+            loader.verify(locale, bundle);
+            entry.bytes = bundle.heapBytes() + bundle.offHeapBytes();
+            entry.bundle = bundle;
+            evict(entry);
+            entry.future.complete(bundle);
+        } catch (FileNotFoundException e) {
+            entry.missing = true;
+            entry.bundle = null;
+            entry.bytes = 0;
+            entry.future.completeExceptionally(e);
+        } catch (Throwable e) {
+            entry.failures++;
+            entry.failedAt = System.nanoTime();
+            LOGGER.log(System.Logger.Level.WARNING, "Failed to load locale " + locale + " (attempt " + entry.failures + ")", e);
+            entry.future.completeExceptionally(e);
+        }
+    }
+
+    private synchronized void evict(@NotNull Entry loaded) {
+        if (maxLocales <= 0 && maxBytes <= 0) return;
+
+        while (true) {
+            int count = 0;
+            long bytes = 0;
+            Map.Entry<Locale, Entry> eldest = null;
+            for (Map.Entry<Locale, Entry> e : entries.entrySet()) {
+                Entry entry = e.getValue();
+                if (entry.bundle == null) continue;
+                count++;
+                bytes += entry.bytes;
+                if (entry != loaded && (eldest == null || entry.lastAccess - eldest.getValue().lastAccess < 0))
+                    eldest = e;
+            }
+
+            boolean over = (maxLocales > 0 && count > maxLocales) || (maxBytes > 0 && bytes > maxBytes);
+            if (!over || eldest == null) return;
+            entries.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LocaleCache{" +
+                "defaultLocale=" + loader.getLanguage() +
+                ", locales=" + entries.keySet() +
+                ", maxLocales=" + maxLocales +
+                ", maxBytes=" + maxBytes +
+                '}';
+    }
+
+    private static final class Entry {
+        private final @NotNull Bundle base;
+        private final @NotNull CompletableFuture<Bundle> future = new CompletableFuture<>();
+        private volatile @Nullable Bundle bundle;
+        private volatile long lastAccess = System.nanoTime();
+        private volatile long bytes;
+        private volatile long failedAt;
+        private volatile int failures;
+        private volatile boolean missing;
+
+        private Entry(@NotNull Bundle base, @Nullable Bundle stale, long bytes) {
+            this.base = base;
+            this.bundle = stale;
+            this.bytes = bytes;
+        }
+
+        /**
+         * @return whether the load of this entry failed for another reason than a missing file
+         * and its retry delay has passed
+         */
+        private boolean retry() {
+            if (missing || !future.isCompletedExceptionally()) return false;
+            long delay = Math.min(RETRY_MAX, RETRY_MIN << Math.min(failures - 1, 20));
+            return System.nanoTime() - failedAt - delay >= 0;
+        }
+    }
+
+    private static final class DefaultExecutor {
+        private static final Executor INSTANCE;
+
+        static {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "t-i18n-locale-loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            INSTANCE = executor;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package one.tranic.t.i18n;
+
+/**
+ * How a loader compares the placeholders of every locale against its default locale when a bundle is loaded.
+ *
+ * @see BaseLoader#setPlaceholderCheck(PlaceholderCheck)
+ * @see ConsistencyReport
+ */
+public enum PlaceholderCheck {
+    /**
+     * Templates are compiled lazily on first render and nothing is compared.
+     */
+    OFF,
+    /**
+     * Templates are compiled while loading and mismatches are recorded in the consistency report.
+     */
+    REPORT,
+    /**
+     * Like {@link #REPORT}, but a load that introduces a mismatch is rejected and the previous bundle stays installed.
+     */
+    STRICT
+}
@@ -0,0 +1,176 @@
+package one.tranic.t.i18n;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Cardinal plural rules of the CLDR, for the languages commonly found on Minecraft servers.
+ * <p>
+ * Rules are evaluated on the operands of the CLDR specification: {@code n} the absolute value,
+ * {@code i} its integer digits and {@code v} the number of visible fraction digits.
+ * Languages without an entry use the English rule.
+ */
+enum PluralRule {
+    /**
+     * ja, zh, ko, vi, th, id, ms: no plural forms.
+     */
+    NONE {
+        @Override
+        @NotNull String select(long i, int v, @NotNull BigDecimal n) {
+            return OTHER;
+        }
+    },
+    /**
+     * en, de, nl, sv, it, fi, et, ca: one is 1 without visible fraction digits.
+     */
+    ONE_INTEGER {
+        @Override
+        @NotNull String select(long i, int v, @NotNull BigDecimal n) {
+            return i == 1 && v == 0 ? ONE : OTHER;
+        }
+    },
+    /**
+     * es, tr, hu, el, bg, nb: one is exactly 1.
+     */
+    ONE_EXACT {
+        @Override
+        @NotNull String select(long i, int v, @NotNull BigDecimal n) {
+            return n.compareTo(BigDecimal.ONE) == 0 ? ONE : OTHER;
+        }
+    },
+    /**
+     * fr, pt: one is 0 and 1, including fractions.
+     */
+    ONE_ZERO {
+        @Override
+        @NotNull String select(long i, int v, @NotNull BigDecimal n) {
+            return i == 0 || i == 1 ? ONE : OTHER;
+        }
+    },
+    /**
+     * ru, uk, be: one, few and many by the last two digits.
+     */
+    EAST_SLAVIC {
+        @Override
+        @NotNull String select(long i, int v, @NotNull BigDecimal n) {
+            if (v != 0) return OTHER;
+            long mod10 = i % 10, mod100 = i % 100;
+            if (mod10 == 1 && mod100 != 11) return ONE;
+            if (mod10 >= 2 && mod10 <= 4 && (mod100 < 12 || mod100 > 14)) return FEW;
+            return MANY;
+        }
+    },
+    /**
+     * pl: one for 1, few and many by the last two digits.
+     */
+    POLISH {
+        @Override
+        @NotNull String select(long i, int v, @NotNull BigDecimal n) {
+            if (v != 0) return OTHER;
+            if (i == 1) return ONE;
+            long mod10 = i % 10, mod100 = i % 100;
+            if (mod10 >= 2 && mod10 <= 4 && (mod100 < 12 || mod100 > 14)) return FEW;
+            return MANY;
+        }
+    },
+    /**
+     * cs, sk: one for 1, few for 2 to 4, many for fractions.
+     */
+    CZECH {
+        @Override
+        @NotNull String select(long i, int v, @NotNull BigDecimal n) {
+            if (v != 0) return MANY;
+            if (i == 1) return ONE;
+            if (i >= 2 && i <= 4) return FEW;
+            return OTHER;
+        }
+    },
+    /**
+     * he: one for 1, two for 2.
+     */
+    HEBREW {
+        @Override
+        @NotNull String select(long i, int v, @NotNull BigDecimal n) {
+            if (i == 1 && v == 0 || i == 0 && v != 0) return ONE;
+            if (i == 2 && v == 0) return TWO;
+            return OTHER;
+        }
+    },
+    /**
+     * ar: zero, one, two, few and many.
+     */
+    ARABIC {
+        @Override
+        @NotNull String select(long i, int v, @NotNull BigDecimal n) {
+            if (v != 0) return OTHER;
+            if (i == 0) return ZERO;
+            if (i == 1) return ONE;
+            if (i == 2) return TWO;
+            long mod100 = i % 100;
+            if (mod100 >= 3 && mod100 <= 10) return FEW;
+            if (mod100 >= 11) return MANY;
+            return OTHER;
+        }
+    };
+
+    static final String ZERO = "zero";
+    static final String ONE = "one";
+    static final String TWO = "two";
+    static final String FEW = "few";
+    static final String MANY = "many";
+    static final String OTHER = "other";
+
+    private static final Map<String, PluralRule> LANGUAGES = new HashMap<>();
+
+    static {
+        for (String language : new String[]{"ja", "zh", "ko", "vi", "th", "id", "in", "ms", "lo", "my"})
+            LANGUAGES.put(language, NONE);
+        for (String language : new String[]{"es", "tr", "hu", "el", "bg", "nb", "no"})
+            LANGUAGES.put(language, ONE_EXACT);
+        for (String language : new String[]{"fr", "pt"})
+            LANGUAGES.put(language, ONE_ZERO);
+        for (String language : new String[]{"ru", "uk", "be"})
+            LANGUAGES.put(language, EAST_SLAVIC);
+        LANGUAGES.put("pl", POLISH);
+        LANGUAGES.put("cs", CZECH);
+        LANGUAGES.put("sk", CZECH);
+        LANGUAGES.put("he", HEBREW);
+        LANGUAGES.put("iw", HEBREW);
+        LANGUAGES.put("ar", ARABIC);
+    }
+
+    /**
+     * Retrieves the rule of the language of the given locale.
+     *
+     * @param locale the locale, or null for the English rule
+     * @return the plural rule
+     */
+    static @NotNull PluralRule of(@Nullable Locale locale) {
+        if (locale == null) return ONE_INTEGER;
+        return LANGUAGES.getOrDefault(locale.getLanguage(), ONE_INTEGER);
+    }
+
+    /**
+     * Selects the plural category of a number.
+     *
+     * @param number the number as written in the rendered text, see {@link Template}
+     * @return one of {@code zero}, {@code one}, {@code two}, {@code few}, {@code many} and {@code other}
+     */
+    @NotNull String select(@NotNull BigDecimal number) {
+        BigDecimal n = number.abs();
+        long i;
+        try {
+            i = n.toBigInteger().longValueExact();
+        } catch (ArithmeticException e) {
+            i = Long.MAX_VALUE;
+        }
+        return select(i, Math.max(0, n.scale()), n);
+    }
+
+    abstract @NotNull String select(long i, int v, @NotNull BigDecimal n);
+}
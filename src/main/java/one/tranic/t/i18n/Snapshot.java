@@ -0,0 +1,309 @@
+package one.tranic.t.i18n;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * The bundles of several locales at one point in time, with a compact binary form to hand them to another server.
+ * <p>
+ * A proxy that already has the translations in memory exports them once, and backend servers install the payload
+ * without reading or parsing any translation file. The transport, plugin messaging or a shared file, is up to the caller:
+ * <pre>{@code
+ * // proxy
+ * Snapshot snapshot = locales.snapshot();
+ * byte[] full = snapshot.toBytes();
+ * byte[] delta = snapshot.toDelta(previous);
+ *
+ * // backend
+ * Snapshot received = Snapshot.fromBytes(full);
+ * locales.update(received);
+ * received = Snapshot.fromBytes(delta, received, StorageMode.HEAP);
+ * }</pre>
+ * The payload starts with a magic number and a format version and ends with a CRC32 of everything before it.
+ * A delta payload only carries the keys that were added, changed or removed since a base snapshot, together with
+ * a checksum of every base bundle it applies to, so it is rejected when the receiver holds a different base.
+ * Locales are written as language tags, which keep their script and extensions.
+ * Layer origins are local to the exporting loader and are not part of the payload.
+ */
+public final class Snapshot {
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x54493138;
+    private static final byte FULL = 0;
+    private static final byte DELTA = 1;
+
+    private final @NotNull Map<Locale, Bundle> bundles;
+
+    public Snapshot(@NotNull Map<Locale, Bundle> bundles) {
+        this.bundles = Collections.unmodifiableMap(new LinkedHashMap<>(bundles));
+    }
+
+    /**
+     * Decodes a full payload, keeping the values on heap.
+     *
+     * @param payload the bytes produced by {@link #toBytes()}
+     * @return the decoded snapshot
+     * @throws IOException if the payload is corrupted, of an unsupported version, or a delta
+     */
+    public static @NotNull Snapshot fromBytes(byte @NotNull [] payload) throws IOException {
+        return fromBytes(payload, null, StorageMode.HEAP);
+    }
+
+    /**
+     * Decodes a full or a delta payload.
+     *
+     * @param payload the bytes produced by {@link #toBytes()} or {@link #toDelta(Snapshot)}
+     * @param base    the snapshot a delta payload applies to, ignored for full payloads
+     * @param mode    where the values of the decoded bundles are stored
+     * @return the decoded snapshot, for a delta the base with the changes applied
+     * @throws IOException if the payload is corrupted, of an unsupported version,
+     *                     or a delta that does not match the given base
+     */
+    public static @NotNull Snapshot fromBytes(byte @NotNull [] payload, @Nullable Snapshot base, @NotNull StorageMode mode) throws IOException {
+        if (payload.length < 10) throw new IOException("Snapshot payload is truncated");
+
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length - 4);
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        if (buffer.getInt(payload.length - 4) != (int) crc.getValue())
+            throw new IOException("Snapshot payload checksum mismatch");
+
+        try {
+            if (buffer.getInt() != MAGIC) throw new IOException("Not a snapshot payload");
+            int version = buffer.get();
+            if (version != VERSION) throw new IOException("Unsupported snapshot version " + version);
+            byte type = buffer.get();
+            if (type == DELTA && base == null) throw new IOException("A delta payload requires a base snapshot");
+
+            Map<Locale, Bundle> result = new LinkedHashMap<>();
+            if (type == DELTA) result.putAll(base.bundles);
+            else if (type != FULL) throw new IOException("Unknown snapshot type " + type);
+
+            int locales = readVarInt(buffer);
+            for (int i = 0; i < locales; i++) {
+                Locale locale = readLocale(buffer);
+                Map<String, String> language = BaseLoader.createMap();
+                if (type == DELTA) {
+                    boolean based = buffer.get() != 0;
+                    Bundle previous = result.get(locale);
+                    if (based != (previous != null) || (based && buffer.getInt() != previous.checksum()))
+                        throw new IOException("Delta payload does not apply to the base snapshot of " + locale);
+                    if (previous != null) previous.forEach(language::put);
+                }
+
+                int entries = readVarInt(buffer);
+                for (int j = 0; j < entries; j++) {
+                    String key = readString(buffer);
+                    language.put(key, readString(buffer));
+                }
+                if (type == DELTA) {
+                    int removed = readVarInt(buffer);
+                    for (int j = 0; j < removed; j++) {
+                        language.remove(readString(buffer));
+                    }
+                }
+                result.put(locale, Bundle.of(language, locale, mode));
+            }
+
+            if (type == DELTA) {
+                int removed = readVarInt(buffer);
+                for (int i = 0; i < removed; i++) {
+                    result.remove(readLocale(buffer));
+                }
+            }
+            if (buffer.position() != payload.length - 4) throw new IOException("Snapshot payload has trailing data");
+            return new Snapshot(result);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Snapshot payload is truncated", e);
+        }
+    }
+
+    public @NotNull Map<Locale, Bundle> bundles() {
+        return bundles;
+    }
+
+    public @Nullable Bundle get(@NotNull Locale locale) {
+        return bundles.get(locale);
+    }
+
+    /**
+     * Encodes every bundle of this snapshot.
+     *
+     * @return the full payload
+     */
+    public byte @NotNull [] toBytes() {
+        Writer writer = new Writer(FULL);
+        writer.writeVarInt(bundles.size());
+        for (Map.Entry<Locale, Bundle> entry : bundles.entrySet()) {
+            writer.writeLocale(entry.getKey());
+            Bundle bundle = entry.getValue();
+            writer.writeVarInt(bundle.size());
+            bundle.forEach((key, value) -> {
+                writer.writeString(key);
+                writer.writeString(value);
+            });
+        }
+        return writer.finish();
+    }
+
+    /**
+     * Encodes the changes from the given base snapshot to this one.
+     *
+     * @param base the snapshot the receiver already holds
+     * @return the delta payload
+     */
+    public byte @NotNull [] toDelta(@NotNull Snapshot base) {
+        Writer writer = new Writer(DELTA);
+
+        List<Locale> changed = new ArrayList<>();
+        for (Map.Entry<Locale, Bundle> entry : bundles.entrySet()) {
+            Bundle previous = base.bundles.get(entry.getKey());
+            if (previous == null || !previous.equals(entry.getValue())) changed.add(entry.getKey());
+        }
+
+        writer.writeVarInt(changed.size());
+        for (Locale locale : changed) {
+            Bundle bundle = bundles.get(locale);
+            Bundle previous = base.bundles.get(locale);
+            writer.writeLocale(locale);
+            writer.out.write(previous == null ? 0 : 1);
+            if (previous != null) writer.writeInt(previous.checksum());
+
+            List<String> upserts = new ArrayList<>();
+            bundle.forEach((key, value) -> {
+                if (previous == null || !value.equals(previous.get(key))) upserts.add(key);
+            });
+            writer.writeVarInt(upserts.size());
+            for (String key : upserts) {
+                writer.writeString(key);
+                writer.writeString(bundle.get(key));
+            }
+
+            List<String> removed = new ArrayList<>();
+            if (previous != null) {
+                for (String key : previous.keys()) {
+                    if (!bundle.contains(key)) removed.add(key);
+                }
+            }
+            writer.writeVarInt(removed.size());
+            for (String key : removed) {
+                writer.writeString(key);
+            }
+        }
+
+        List<Locale> removed = new ArrayList<>();
+        for (Locale locale : base.bundles.keySet()) {
+            if (!bundles.containsKey(locale)) removed.add(locale);
+        }
+        writer.writeVarInt(removed.size());
+        for (Locale locale : removed) {
+            writer.writeLocale(locale);
+        }
+        return writer.finish();
+    }
+
+    private static int readVarInt(@NotNull ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (value < 0) break;
+                return value;
+            }
+        }
+        throw new IOException("Malformed length in snapshot payload");
+    }
+
+    private static @NotNull String readString(@NotNull ByteBuffer buffer) throws IOException {
+        int length = readVarInt(buffer);
+        if (length > buffer.remaining()) throw new IOException("Snapshot payload is truncated");
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static @NotNull Locale readLocale(@NotNull ByteBuffer buffer) throws IOException {
+        return Locale.forLanguageTag(readString(buffer));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Snapshot snapshot)) return false;
+        return bundles.equals(snapshot.bundles);
+    }
+
+    @Override
+    public int hashCode() {
+        return bundles.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Snapshot{");
+        boolean first = true;
+        for (Map.Entry<Locale, Bundle> entry : bundles.entrySet()) {
+            if (!first) sb.append(", ");
+            sb.append(entry.getKey()).append('=').append(entry.getValue().size());
+            first = false;
+        }
+        return sb.append('}').toString();
+    }
+
+    private static final class Writer {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+
+        private Writer(byte type) {
+            writeInt(MAGIC);
+            out.write(VERSION);
+            out.write(type);
+        }
+
+        private void writeInt(int value) {
+            out.write(value >>> 24);
+            out.write(value >>> 16);
+            out.write(value >>> 8);
+            out.write(value);
+        }
+
+        private void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                out.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write(value);
+        }
+
+        private void writeString(@NotNull String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        private void writeLocale(@NotNull Locale locale) {
+            writeString(locale.toLanguageTag());
+        }
+
+        private byte @NotNull [] finish() {
+            CRC32 crc = new CRC32();
+            byte[] body = out.toByteArray();
+            crc.update(body);
+            writeInt((int) crc.getValue());
+            return out.toByteArray();
+        }
+    }
+}
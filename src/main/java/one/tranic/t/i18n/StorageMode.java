@@ -0,0 +1,22 @@
+package one.tranic.t.i18n;
+
+/**
+ * Where a {@link Bundle} keeps its values.
+ * <p>
+ * Keys and the lookup index always stay on heap, the off-heap modes only move the values
+ * and decode them on demand through a small on-heap cache of recently used strings.
+ */
+public enum StorageMode {
+    /**
+     * Values are regular {@link String}s on heap, the fastest mode and the default.
+     */
+    HEAP,
+    /**
+     * Values are stored as UTF-8 in a direct {@link java.nio.ByteBuffer}.
+     */
+    DIRECT,
+    /**
+     * Values are stored as UTF-8 in a memory-mapped temporary file, which the operating system can page out.
+     */
+    MAPPED
+}
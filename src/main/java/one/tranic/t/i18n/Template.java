@@ -0,0 +1,706 @@
+package one.tranic.t.i18n;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DateFormat;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.Format;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A translation value compiled once into a tree of text, argument, plural and select nodes.
+ * <p>
+ * The syntax is the ICU MessageFormat subset:
+ * <pre>{@code
+ * {0} and {name} arguments, {} for the next positional argument
+ * {count, plural, offset:1 =0 {nobody} one {# item} other {# items}}
+ * {gender, select, male {his} female {her} other {their}}
+ * {price, number} {ratio, number, percent} {size, number, #,##0.0} {when, date, short} {when, time}
+ * }</pre>
+ * Numbers, dates and times are formatted for the locale the template is rendered in, with the {@code number} styles
+ * {@code integer}, {@code percent}, {@code currency} or a {@link DecimalFormat} pattern, and the {@code date} and
+ * {@code time} styles {@code short}, {@code medium}, {@code long}, {@code full} or a {@link SimpleDateFormat} pattern.
+ * Any other argument type, such as {@code choice}, is a syntax error.
+ * Inside a plural branch {@code #} is the number minus the offset, formatted for the locale with the fraction digits
+ * it is written with. A single quote followed by a brace
+ * or by {@code #} starts a quoted literal up to the next single quote, {@code ''} is a quote; every other
+ * single quote is literal, so "don't" needs no escaping.
+ * Arguments without a value are rendered as written. Braces that do not form an argument, such as in {@code "Smile :}"},
+ * are literal text. A typed argument that does not parse, or whose type is not supported, makes the whole value render as is,
+ * and the parse error is kept, see {@link #error()}.
+ * <p>
+ * Every template also records the placeholder signature of its value: the number of {@code {}} placeholders,
+ * the names of the {@code {name}} and ICU arguments, and the printf conversions. Signatures are compared
+ * across locales, see {@link ConsistencyReport}. Only conversions {@link java.util.Formatter} accepts are counted,
+ * so the percent sign of {@code "50% off"} is not a placeholder, and neither {@code %%} nor {@code %n} is counted.
+ * <p>
+ * Templates are immutable and can be formatted from any thread.
+ */
+final class Template {
+    private static final Node[] NO_NODES = new Node[0];
+    private static final Object MISSING = new Object();
+    private static final String[] NO_NAMES = new String[0];
+    private static final Pattern FORMAT = Pattern.compile("%(?:[-\\d]*[%n]|(\\d+\\$)?[-#+0,(<]*\\d*(\\.\\d+)?([bBhHsScCdoxXeEfgGaA]|[tT][HIklMSLNpzZsQBbhAaCYyjmdeRTrDFc]))");
+
+    private final @NotNull String source;
+    private final @NotNull Node[] nodes;
+    private final @Nullable String error;
+    private final int braces;
+    private final @NotNull String[] names;
+    private final @NotNull String[] formats;
+
+    private Template(@NotNull String source, @NotNull Node[] nodes, @Nullable String error, int braces, @NotNull Set<String> names) {
+        this.source = source;
+        this.nodes = nodes;
+        this.error = error;
+        this.braces = braces;
+        this.names = names.isEmpty() ? NO_NAMES : names.toArray(NO_NAMES);
+
+        List<String> formats = new ArrayList<>();
+        Matcher matcher = FORMAT.matcher(source);
+        while (matcher.find()) {
+            String conversion = matcher.group(3);
+            // %% and %n take no argument, they are only matched so that "%%d" is not read as %d
+            if (conversion == null) continue;
+            formats.add(matcher.group(1) != null ? matcher.group(1) + conversion : conversion);
+        }
+        this.formats = formats.isEmpty() ? NO_NAMES : formats.toArray(NO_NAMES);
+    }
+
+    static @NotNull Template compile(@NotNull String pattern) {
+        Parser parser = new Parser(pattern);
+        try {
+            Node[] nodes = parser.message(false);
+            if (nodes.length == 1 && nodes[0] instanceof Text text && text.value.equals(pattern))
+                nodes = NO_NODES;
+            return new Template(pattern, nodes, null, parser.sequential, new TreeSet<>(parser.names));
+        } catch (IllegalArgumentException e) {
+            // The value renders as written, its placeholders are still read for the signature
+            Set<String> names = new TreeSet<>();
+            int braces = 0;
+            for (int i = pattern.indexOf('{'); i != -1; i = pattern.indexOf('{', i + 1)) {
+                int end = i + 1;
+                while (end < pattern.length() && isNameChar(pattern.charAt(end))) end++;
+                if (end == pattern.length() || pattern.charAt(end) != '}') continue;
+                if (end == i + 1) braces++;
+                else names.add(pattern.substring(i + 1, end));
+            }
+            return new Template(pattern, NO_NODES, e.getMessage(), braces, names);
+        }
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.';
+    }
+
+    /**
+     * @return the parse error of the value, or null if it compiled
+     */
+    @Nullable String error() {
+        return error;
+    }
+
+    /**
+     * @return whether the value contains no argument and renders as written
+     */
+    boolean isLiteral() {
+        return nodes.length == 0;
+    }
+
+    @NotNull String source() {
+        return source;
+    }
+
+    /**
+     * @return the number of {@code {}} placeholders
+     */
+    int braces() {
+        return braces;
+    }
+
+    /**
+     * @return the sorted names of the {@code {name}} placeholders and ICU arguments
+     */
+    @NotNull String[] names() {
+        return names;
+    }
+
+    /**
+     * Describes the placeholders of the value, equal for two values that take the same arguments.
+     *
+     * @return the signature, such as {@code "{}x2 {count} %s %d"}, or an empty string for a value without placeholders
+     */
+    @NotNull String signature() {
+        StringBuilder sb = new StringBuilder();
+        if (braces > 0) sb.append("{}x").append(braces);
+        for (String name : names) {
+            if (!sb.isEmpty()) sb.append(' ');
+            sb.append('{').append(name).append('}');
+        }
+        for (String format : formats) {
+            if (!sb.isEmpty()) sb.append(' ');
+            sb.append('%').append(format);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Checks whether this value takes the same arguments as the given one.
+     *
+     * @param other the template of the same key in another locale
+     * @return {@code true} if both signatures are equal
+     */
+    boolean sameSignature(@NotNull Template other) {
+        return braces == other.braces && Arrays.equals(names, other.names) && Arrays.equals(formats, other.formats);
+    }
+
+    /**
+     * Estimates the heap bytes of this template.
+     *
+     * @param sharedSource whether the source string is the value held by the bundle and is counted there
+     * @return the estimated bytes, excluding the source string if it is shared
+     */
+    long heapBytes(boolean sharedSource) {
+        long bytes = 40 + (sharedSource ? 0 : Bundle.stringBytes(source)) + nodesBytes(nodes);
+        if (names != NO_NAMES) {
+            bytes += Bundle.arrayBytes(names.length, Bundle.REFERENCE_BYTES);
+            for (String name : names) bytes += Bundle.stringBytes(name);
+        }
+        if (formats != NO_NAMES) {
+            bytes += Bundle.arrayBytes(formats.length, Bundle.REFERENCE_BYTES);
+            for (String format : formats) bytes += Bundle.stringBytes(format);
+        }
+        return bytes;
+    }
+
+    private static long nodesBytes(@NotNull Node[] nodes) {
+        if (nodes == NO_NODES) return 0;
+        long bytes = Bundle.arrayBytes(nodes.length, Bundle.REFERENCE_BYTES);
+        for (Node node : nodes) {
+            bytes += node.heapBytes();
+        }
+        return bytes;
+    }
+
+    private static long branchesBytes(@NotNull Map<String, Node[]> branches) {
+        int capacity = Integer.highestOneBit(Math.max(1, branches.size() * 4 / 3) * 2 - 1);
+        long bytes = 56 + Bundle.arrayBytes(Math.max(16, capacity), Bundle.REFERENCE_BYTES);
+        for (Map.Entry<String, Node[]> entry : branches.entrySet()) {
+            bytes += 40 + Bundle.stringBytes(entry.getKey()) + nodesBytes(entry.getValue());
+        }
+        return bytes;
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param locale the locale of the bundle, which picks the plural rule and formats numbers and dates
+     * @param args   the positional arguments, or null
+     * @param named  the named arguments, or null
+     * @return the rendered text
+     */
+    @NotNull String format(@NotNull Locale locale, @Nullable Object[] args, @Nullable BaseLoader.SimpleComponent[] named) {
+        if (nodes.length == 0) return source;
+        if (nodes.length == 1 && nodes[0] instanceof Text text) return text.value;
+
+        StringBuilder sb = new StringBuilder(source.length() + 16);
+        Context context = new Context(locale, args, named);
+        for (Node node : nodes) {
+            node.format(sb, context, null);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Converts an argument to the number a plural selects on, as it is written in the rendered text.
+     */
+    static @Nullable BigDecimal number(@Nullable Object value) {
+        if (value instanceof BigDecimal decimal) return decimal;
+        if (value instanceof BigInteger integer) return new BigDecimal(integer);
+        if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            return Double.isFinite(d) ? BigDecimal.valueOf(d).stripTrailingZeros() : null;
+        }
+        if (value instanceof Number number) return BigDecimal.valueOf(number.longValue());
+        if (value instanceof CharSequence text) {
+            try {
+                return new BigDecimal(text.toString().trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static @NotNull String text(@Nullable Object value) {
+        if (value instanceof Double || value instanceof Float) {
+            BigDecimal number = number(value);
+            if (number != null) return number.toPlainString();
+        }
+        return String.valueOf(value);
+    }
+
+    private static void formatAll(@NotNull Node[] nodes, @NotNull StringBuilder sb, @NotNull Context context, @Nullable BigDecimal pound) {
+        for (Node node : nodes) {
+            node.format(sb, context, pound);
+        }
+    }
+
+    private static final class Context {
+        private final @NotNull Locale locale;
+        private final @NotNull PluralRule rule;
+        private final @Nullable Object[] args;
+        private final @Nullable BaseLoader.SimpleComponent[] named;
+
+        private Context(@NotNull Locale locale, @Nullable Object[] args, @Nullable BaseLoader.SimpleComponent[] named) {
+            this.locale = locale;
+            this.rule = PluralRule.of(locale);
+            this.args = args;
+            this.named = named;
+        }
+
+        private @Nullable Object value(@Nullable String name, int index) {
+            if (index >= 0 && args != null && index < args.length) return args[index];
+            if (name != null && named != null) {
+                for (BaseLoader.SimpleComponent component : named) {
+                    if (component.keyword().equals(name)) return component.value();
+                }
+            }
+            return MISSING;
+        }
+    }
+
+    private interface Node {
+        void format(@NotNull StringBuilder sb, @NotNull Context context, @Nullable BigDecimal pound);
+
+        /**
+         * Estimates the heap bytes of this node, the argument names are counted by the template.
+         */
+        long heapBytes();
+    }
+
+    private record Text(@NotNull String value) implements Node {
+        @Override
+        public void format(@NotNull StringBuilder sb, @NotNull Context context, @Nullable BigDecimal pound) {
+            sb.append(value);
+        }
+
+        @Override
+        public long heapBytes() {
+            return 16 + Bundle.stringBytes(value);
+        }
+    }
+
+    private record Pound() implements Node {
+        @Override
+        public void format(@NotNull StringBuilder sb, @NotNull Context context, @Nullable BigDecimal pound) {
+            if (pound == null) {
+                sb.append('#');
+                return;
+            }
+            // Keeps the fraction digits the plural category was selected on
+            NumberFormat format = NumberFormat.getInstance(context.locale);
+            int digits = Math.max(0, pound.scale());
+            format.setMinimumFractionDigits(digits);
+            format.setMaximumFractionDigits(digits);
+            sb.append(format.format(pound));
+        }
+
+        @Override
+        public long heapBytes() {
+            return 16;
+        }
+    }
+
+    private record Argument(@NotNull String source, @Nullable String name, int index) implements Node {
+        @Override
+        public void format(@NotNull StringBuilder sb, @NotNull Context context, @Nullable BigDecimal pound) {
+            Object value = context.value(name, index);
+            sb.append(value == MISSING ? source : text(value));
+        }
+
+        @Override
+        public long heapBytes() {
+            return 24 + Bundle.stringBytes(source);
+        }
+    }
+
+    /**
+     * A {@code number}, {@code date} or {@code time} argument, whose style was validated at compile time.
+     * Values of another type than the argument expects are rendered as plain text.
+     */
+    private record Typed(@NotNull String source, @NotNull String name, int index,
+                         @NotNull String type, @NotNull String style) implements Node {
+        @Override
+        public void format(@NotNull StringBuilder sb, @NotNull Context context, @Nullable BigDecimal pound) {
+            Object value = context.value(name, index);
+            if (value == MISSING) {
+                sb.append(source);
+                return;
+            }
+
+            Object formattable = type.equals("number") ? (value instanceof Number ? value : null) : date(value);
+            if (formattable == null) sb.append(text(value));
+            else sb.append(format(type, style, context.locale).format(formattable));
+        }
+
+        private static @Nullable Date date(@Nullable Object value) {
+            if (value instanceof Date date) return date;
+            if (value instanceof Number number) return new Date(number.longValue());
+            if (value instanceof TemporalAccessor temporal && temporal.isSupported(ChronoField.INSTANT_SECONDS))
+                return Date.from(Instant.from(temporal));
+            return null;
+        }
+
+        /**
+         * Creates the format of an argument, formats are not thread-safe so every render creates its own.
+         *
+         * @throws IllegalArgumentException if the type is not supported or the style is not a valid pattern
+         */
+        private static @NotNull Format format(@NotNull String type, @NotNull String style, @NotNull Locale locale) {
+            if (type.equals("number")) {
+                return switch (style) {
+                    case "" -> NumberFormat.getInstance(locale);
+                    case "integer" -> NumberFormat.getIntegerInstance(locale);
+                    case "percent" -> NumberFormat.getPercentInstance(locale);
+                    case "currency" -> NumberFormat.getCurrencyInstance(locale);
+                    default -> new DecimalFormat(style, DecimalFormatSymbols.getInstance(locale));
+                };
+            }
+
+            int length = switch (style) {
+                case "short" -> DateFormat.SHORT;
+                case "", "medium" -> DateFormat.MEDIUM;
+                case "long" -> DateFormat.LONG;
+                case "full" -> DateFormat.FULL;
+                default -> -1;
+            };
+            if (length == -1) return new SimpleDateFormat(style, locale);
+            return switch (type) {
+                case "date" -> DateFormat.getDateInstance(length, locale);
+                case "time" -> DateFormat.getTimeInstance(length, locale);
+                default -> throw new IllegalArgumentException("Unsupported argument type " + type);
+            };
+        }
+
+        @Override
+        public long heapBytes() {
+            return 32 + Bundle.stringBytes(source) + Bundle.stringBytes(style);
+        }
+    }
+
+    /**
+     * @param exact      the values of the {@code =N} selectors, parsed once at compile time
+     * @param exactNodes the branches of the {@code =N} selectors, in the same order
+     */
+    private record Plural(@NotNull String source, @NotNull String name, int index, long offset,
+                          @NotNull BigDecimal[] exact, @NotNull Node[][] exactNodes,
+                          @NotNull Map<String, Node[]> branches) implements Node {
+        @Override
+        public void format(@NotNull StringBuilder sb, @NotNull Context context, @Nullable BigDecimal pound) {
+            Object value = context.value(name, index);
+            if (value == MISSING) {
+                sb.append(source);
+                return;
+            }
+
+            BigDecimal number = number(value);
+            if (number == null) {
+                formatAll(branches.get(PluralRule.OTHER), sb, context, null);
+                return;
+            }
+
+            Node[] branch = null;
+            for (int i = 0; i < exact.length; i++) {
+                if (exact[i].compareTo(number) == 0) {
+                    branch = exactNodes[i];
+                    break;
+                }
+            }
+            BigDecimal shifted = offset == 0 ? number : number.subtract(BigDecimal.valueOf(offset));
+            if (branch == null) branch = branches.get(context.rule.select(shifted));
+            if (branch == null) branch = branches.get(PluralRule.OTHER);
+            formatAll(branch, sb, context, shifted);
+        }
+
+        @Override
+        public long heapBytes() {
+            long bytes = 48 + Bundle.stringBytes(source) + branchesBytes(branches);
+            if (exact.length > 0)
+                bytes += Bundle.arrayBytes(exact.length, Bundle.REFERENCE_BYTES) * 2 + exact.length * 40L;
+            return bytes;
+        }
+    }
+
+    private record Select(@NotNull String source, @NotNull String name, int index,
+                          @NotNull Map<String, Node[]> branches) implements Node {
+        @Override
+        public void format(@NotNull StringBuilder sb, @NotNull Context context, @Nullable BigDecimal pound) {
+            Object value = context.value(name, index);
+            if (value == MISSING) {
+                sb.append(source);
+                return;
+            }
+
+            Node[] branch = branches.get(String.valueOf(value));
+            if (branch == null) branch = branches.get(PluralRule.OTHER);
+            formatAll(branch, sb, context, pound);
+        }
+
+        @Override
+        public long heapBytes() {
+            return 32 + Bundle.stringBytes(source) + branchesBytes(branches);
+        }
+    }
+
+    private static final class Parser {
+        private final @NotNull String pattern;
+        private final @NotNull List<String> names = new ArrayList<>();
+        private int pos;
+        private int sequential;
+        private int depth;
+
+        private Parser(@NotNull String pattern) {
+            this.pattern = pattern;
+        }
+
+        private @NotNull Node[] message(boolean plural) {
+            List<Node> nodes = new ArrayList<>();
+            StringBuilder text = new StringBuilder();
+            while (pos < pattern.length()) {
+                char c = pattern.charAt(pos);
+                if (c == '\'') {
+                    quote(text, plural);
+                } else if (c == '{') {
+                    int start = pos, names = this.names.size(), sequential = this.sequential;
+                    Node argument;
+                    try {
+                        argument = argument();
+                    } catch (SyntaxError e) {
+                        throw e;
+                    } catch (IllegalArgumentException e) {
+                        pos = start + 1;
+                        this.names.subList(names, this.names.size()).clear();
+                        this.sequential = sequential;
+                        text.append(c);
+                        continue;
+                    }
+                    if (!text.isEmpty()) nodes.add(new Text(text.toString()));
+                    text.setLength(0);
+                    nodes.add(argument);
+                } else if (c == '}') {
+                    if (depth > 0) break;
+                    text.append(c);
+                    pos++;
+                } else if (c == '#' && plural) {
+                    if (!text.isEmpty()) nodes.add(new Text(text.toString()));
+                    text.setLength(0);
+                    nodes.add(new Pound());
+                    pos++;
+                } else {
+                    text.append(c);
+                    pos++;
+                }
+            }
+            if (!text.isEmpty()) nodes.add(new Text(text.toString()));
+            return nodes.toArray(NO_NODES);
+        }
+
+        private void quote(@NotNull StringBuilder text, boolean plural) {
+            char next = pos + 1 < pattern.length() ? pattern.charAt(pos + 1) : 0;
+            if (next == '\'') {
+                text.append('\'');
+                pos += 2;
+                return;
+            }
+            if (next != '{' && next != '}' && !(next == '#' && plural)) {
+                text.append('\'');
+                pos++;
+                return;
+            }
+
+            pos++;
+            while (pos < pattern.length()) {
+                char c = pattern.charAt(pos++);
+                if (c != '\'') {
+                    text.append(c);
+                } else if (pos < pattern.length() && pattern.charAt(pos) == '\'') {
+                    text.append('\'');
+                    pos++;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private @NotNull Node argument() {
+            int start = pos++;
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+                return new Argument(pattern.substring(start, pos), null, sequential++);
+            }
+
+            String name = identifier();
+            if (name.isEmpty()) throw new IllegalArgumentException("Missing argument name at " + pos);
+            names.add(name);
+            int index = index(name);
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+                return new Argument(pattern.substring(start, pos), name, index);
+            }
+
+            expect(',');
+            skipWhitespace();
+            String type = identifier();
+            skipWhitespace();
+            try {
+                return icu(type, start, name, index);
+            } catch (SyntaxError e) {
+                throw e;
+            } catch (IllegalArgumentException e) {
+                throw new SyntaxError(e.getMessage());
+            }
+        }
+
+        private @NotNull Node icu(@NotNull String type, int start, @NotNull String name, int index) {
+            switch (type) {
+                case "plural" -> {
+                    expect(',');
+                    skipWhitespace();
+                    long offset = 0;
+                    if (pattern.startsWith("offset:", pos)) {
+                        pos += 7;
+                        skipWhitespace();
+                        offset = Long.parseLong(identifier());
+                    }
+                    Map<String, Node[]> branches = branches(true);
+                    List<BigDecimal> exact = new ArrayList<>();
+                    List<Node[]> exactNodes = new ArrayList<>();
+                    for (Map.Entry<String, Node[]> entry : branches.entrySet()) {
+                        if (entry.getKey().charAt(0) != '=') continue;
+                        exact.add(new BigDecimal(entry.getKey().substring(1)));
+                        exactNodes.add(entry.getValue());
+                    }
+                    return new Plural(pattern.substring(start, pos), name, index, offset,
+                            exact.toArray(new BigDecimal[0]), exactNodes.toArray(new Node[0][]), branches);
+                }
+                case "select" -> {
+                    expect(',');
+                    Map<String, Node[]> branches = branches(false);
+                    return new Select(pattern.substring(start, pos), name, index, branches);
+                }
+                case "number", "date", "time" -> {
+                    String style = "";
+                    if (peek() == ',') {
+                        int from = ++pos;
+                        while (peek() != '}') {
+                            if (pattern.charAt(pos) == '{')
+                                throw new IllegalArgumentException("Unexpected '{' in the style of " + type + " at " + pos);
+                            pos++;
+                        }
+                        style = pattern.substring(from, pos).strip();
+                    }
+                    expect('}');
+                    Typed.format(type, style, Locale.ROOT);
+                    return new Typed(pattern.substring(start, pos), name, index, type, style);
+                }
+                default -> throw new IllegalArgumentException("Unsupported argument type '" + type + "' at " + start);
+            }
+        }
+
+        private @NotNull Map<String, Node[]> branches(boolean plural) {
+            Map<String, Node[]> branches = new LinkedHashMap<>();
+            while (true) {
+                skipWhitespace();
+                if (peek() == '}') {
+                    pos++;
+                    break;
+                }
+                String selector = identifier();
+                if (selector.isEmpty()) throw new IllegalArgumentException("Missing selector at " + pos);
+                if (plural && selector.charAt(0) == '=') {
+                    try {
+                        new BigDecimal(selector.substring(1));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid explicit value " + selector);
+                    }
+                }
+                skipWhitespace();
+                expect('{');
+                depth++;
+                Node[] branch = message(plural);
+                depth--;
+                expect('}');
+                branches.putIfAbsent(selector, branch);
+            }
+            if (!branches.containsKey(PluralRule.OTHER))
+                throw new IllegalArgumentException("Missing 'other' branch before " + pos);
+            return branches;
+        }
+
+        private @NotNull String identifier() {
+            int start = pos;
+            while (pos < pattern.length()) {
+                char c = pattern.charAt(pos);
+                if (c == ',' || c == '{' || c == '}' || Character.isWhitespace(c)) break;
+                pos++;
+            }
+            return pattern.substring(start, pos);
+        }
+
+        private static int index(@NotNull String name) {
+            if (name.length() > 9) return -1;
+            for (int i = 0; i < name.length(); i++) {
+                if (name.charAt(i) < '0' || name.charAt(i) > '9') return -1;
+            }
+            return Integer.parseInt(name);
+        }
+
+        private char peek() {
+            if (pos >= pattern.length()) throw new IllegalArgumentException("Unterminated argument at " + pos);
+            return pattern.charAt(pos);
+        }
+
+        private void expect(char expected) {
+            if (peek() != expected)
+                throw new IllegalArgumentException("Expected '" + expected + "' at " + pos);
+            pos++;
+        }
+
+        private void skipWhitespace() {
+            while (pos < pattern.length() && Character.isWhitespace(pattern.charAt(pos))) pos++;
+        }
+    }
+
+    /**
+     * A typed argument that does not parse, unlike other malformed braces which are kept as text.
+     */
+    private static final class SyntaxError extends IllegalArgumentException {
+        private static final long serialVersionUID = 1L;
+
+        private SyntaxError(@NotNull String message) {
+            super(message);
+        }
+    }
+}
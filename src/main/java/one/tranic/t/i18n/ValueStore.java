@@ -0,0 +1,305 @@
+package one.tranic.t.i18n;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * The values of a {@link Bundle}, addressed by the index of their key.
+ */
+abstract class ValueStore {
+    static final ValueStore EMPTY = new Heap(new String[0]);
+    private static final int CACHE_SIZE = Integer.highestOneBit(Math.max(1, Integer.getInteger("tranic.i18n.offheap.cache", 256)));
+
+    static @NotNull ValueStore of(@NotNull String[] values, @NotNull StorageMode mode) throws IOException {
+        if (mode == StorageMode.HEAP || values.length == 0) return new Heap(values);
+
+        byte[][] encoded = new byte[values.length][];
+        int[] offsets = new int[values.length + 1];
+        int[] decoded = new int[values.length];
+        long size = 0;
+        for (int i = 0; i < values.length; i++) {
+            decoded[i] = values[i].length() << 1 | (Bundle.isLatin1(values[i]) ? 0 : 1);
+            encoded[i] = values[i].getBytes(StandardCharsets.UTF_8);
+            size += encoded[i].length;
+            if (size > Integer.MAX_VALUE) throw new IOException("Bundle is too large for " + mode + " storage");
+            offsets[i + 1] = (int) size;
+        }
+
+        ByteBuffer buffer = mode == StorageMode.MAPPED ? map((int) size) : ByteBuffer.allocateDirect((int) size);
+        for (byte[] bytes : encoded) {
+            buffer.put(bytes);
+        }
+        return new Buffer(mode, buffer.clear().asReadOnlyBuffer(), offsets, decoded);
+    }
+
+    private static @NotNull ByteBuffer map(int size) throws IOException {
+        Path file = Files.createTempFile("t-i18n", ".bin");
+        // The file is removed once the channel and the mapping are released, deleting it while it is still mapped
+        // fails on Windows. A file the platform refuses to delete is left for the JVM exit, it never fails the load
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } finally {
+            if (Files.exists(file)) file.toFile().deleteOnExit();
+        }
+    }
+
+    abstract @NotNull StorageMode mode();
+
+    abstract @NotNull String get(int index);
+
+    /**
+     * Decodes a value without caching it, for bulk reads that should not evict the values being rendered.
+     */
+    abstract @NotNull String read(int index);
+
+    /**
+     * @return whether the value at the given index is equal to the value at the other index of the other store
+     */
+    abstract boolean valueEquals(int index, @NotNull ValueStore other, int otherIndex);
+
+    /**
+     * @return a hash of the UTF-8 bytes of a value, equal for equal values in every storage mode
+     */
+    abstract int valueHash(int index);
+
+    /**
+     * Feeds the UTF-8 bytes of a value into the checksum.
+     */
+    abstract void checksum(int index, @NotNull CRC32 crc);
+
+    abstract int size();
+
+    static int utf8Hash(@NotNull String value) {
+        int hash = 1;
+        for (int i = 0; i < value.length(); i++) {
+            int c = value.charAt(i);
+            if (c < 0x80) {
+                hash = 31 * hash + (byte) c;
+            } else if (c < 0x800) {
+                hash = 31 * hash + (byte) (0xC0 | c >> 6);
+                hash = 31 * hash + (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate((char) c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint((char) c, value.charAt(++i));
+                hash = 31 * hash + (byte) (0xF0 | cp >> 18);
+                hash = 31 * hash + (byte) (0x80 | cp >> 12 & 0x3F);
+                hash = 31 * hash + (byte) (0x80 | cp >> 6 & 0x3F);
+                hash = 31 * hash + (byte) (0x80 | cp & 0x3F);
+            } else if (Character.isSurrogate((char) c)) {
+                hash = 31 * hash + '?';
+            } else {
+                hash = 31 * hash + (byte) (0xE0 | c >> 12);
+                hash = 31 * hash + (byte) (0x80 | c >> 6 & 0x3F);
+                hash = 31 * hash + (byte) (0x80 | c & 0x3F);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * @return the estimated bytes of a single value, on heap for {@link StorageMode#HEAP} and off-heap otherwise
+     */
+    abstract long valueBytes(int index);
+
+    /**
+     * @return the estimated heap bytes of a value once decoded, without decoding it
+     */
+    abstract long decodedBytes(int index);
+
+    /**
+     * @return the estimated bytes this store keeps on heap, excluding the bundle's keys and index
+     */
+    abstract long heapBytes();
+
+    /**
+     * @return the bytes this store keeps outside the Java heap
+     */
+    abstract long offHeapBytes();
+
+    private static final class Heap extends ValueStore {
+        private final @NotNull String[] values;
+
+        private Heap(@NotNull String[] values) {
+            this.values = values;
+        }
+
+        @Override
+        @NotNull StorageMode mode() {
+            return StorageMode.HEAP;
+        }
+
+        @Override
+        @NotNull String get(int index) {
+            return values[index];
+        }
+
+        @Override
+        @NotNull String read(int index) {
+            return values[index];
+        }
+
+        @Override
+        boolean valueEquals(int index, @NotNull ValueStore other, int otherIndex) {
+            if (other instanceof Buffer) return other.valueEquals(otherIndex, this, index);
+            return values[index].equals(other.get(otherIndex));
+        }
+
+        @Override
+        int valueHash(int index) {
+            return utf8Hash(values[index]);
+        }
+
+        @Override
+        void checksum(int index, @NotNull CRC32 crc) {
+            crc.update(values[index].getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        int size() {
+            return values.length;
+        }
+
+        @Override
+        long valueBytes(int index) {
+            return Bundle.stringBytes(values[index]);
+        }
+
+        @Override
+        long decodedBytes(int index) {
+            return Bundle.stringBytes(values[index]);
+        }
+
+        @Override
+        long heapBytes() {
+            long bytes = Bundle.arrayBytes(values.length, Bundle.REFERENCE_BYTES);
+            for (String value : values) {
+                bytes += Bundle.stringBytes(value);
+            }
+            return bytes;
+        }
+
+        @Override
+        long offHeapBytes() {
+            return 0;
+        }
+    }
+
+    /**
+     * Keeps the values as UTF-8 in a buffer and decodes them on demand.
+     * <p>
+     * Decoded strings go into a direct-mapped cache where the most recently decoded value wins its slot,
+     * which keeps hot strings on heap without a lock on the render path.
+     * The length and coder of every decoded string are recorded when the values are stored,
+     * so their heap size is known without decoding them.
+     */
+    private static final class Buffer extends ValueStore {
+        private final @NotNull StorageMode mode;
+        private final @NotNull ByteBuffer buffer;
+        private final @NotNull int[] offsets;
+        private final @NotNull int[] decoded;
+        private final @NotNull Decoded[] cache = new Decoded[CACHE_SIZE];
+
+        /**
+         * @param decoded the char length of every value shifted left by one, with the low bit set for UTF-16 strings
+         */
+        private Buffer(@NotNull StorageMode mode, @NotNull ByteBuffer buffer, @NotNull int[] offsets, @NotNull int[] decoded) {
+            this.mode = mode;
+            this.buffer = buffer;
+            this.offsets = offsets;
+            this.decoded = decoded;
+        }
+
+        @Override
+        @NotNull StorageMode mode() {
+            return mode;
+        }
+
+        @Override
+        @NotNull String get(int index) {
+            int slot = index & (cache.length - 1);
+            Decoded decoded = cache[slot];
+            if (decoded != null && decoded.index == index) return decoded.value;
+
+            byte[] bytes = new byte[offsets[index + 1] - offsets[index]];
+            buffer.get(offsets[index], bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            cache[slot] = new Decoded(index, value);
+            return value;
+        }
+
+        @Override
+        @NotNull String read(int index) {
+            Decoded decoded = cache[index & (cache.length - 1)];
+            if (decoded != null && decoded.index == index) return decoded.value;
+
+            byte[] bytes = new byte[offsets[index + 1] - offsets[index]];
+            buffer.get(offsets[index], bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private @NotNull ByteBuffer slice(int index) {
+            return buffer.slice(offsets[index], offsets[index + 1] - offsets[index]);
+        }
+
+        @Override
+        boolean valueEquals(int index, @NotNull ValueStore other, int otherIndex) {
+            if (other instanceof Buffer store) return slice(index).equals(store.slice(otherIndex));
+            return slice(index).equals(ByteBuffer.wrap(other.get(otherIndex).getBytes(StandardCharsets.UTF_8)));
+        }
+
+        @Override
+        int valueHash(int index) {
+            int hash = 1;
+            for (int i = offsets[index]; i < offsets[index + 1]; i++) {
+                hash = 31 * hash + buffer.get(i);
+            }
+            return hash;
+        }
+
+        @Override
+        void checksum(int index, @NotNull CRC32 crc) {
+            crc.update(slice(index));
+        }
+
+        @Override
+        int size() {
+            return offsets.length - 1;
+        }
+
+        @Override
+        long valueBytes(int index) {
+            return offsets[index + 1] - offsets[index];
+        }
+
+        @Override
+        long decodedBytes(int index) {
+            int length = decoded[index];
+            return Bundle.stringBytes(length >>> 1, (length & 1) == 0);
+        }
+
+        @Override
+        long heapBytes() {
+            long bytes = Bundle.arrayBytes(offsets.length, 4) + Bundle.arrayBytes(decoded.length, 4)
+                    + Bundle.arrayBytes(cache.length, Bundle.REFERENCE_BYTES);
+            for (Decoded decoded : cache) {
+                if (decoded != null) bytes += 16 + Bundle.stringBytes(decoded.value);
+            }
+            return bytes;
+        }
+
+        @Override
+        long offHeapBytes() {
+            return buffer.capacity();
+        }
+
+        private record Decoded(int index, @NotNull String value) {
+        }
+    }
+}
@@ -4,6 +4,7 @@ import one.tranic.t.i18n.BaseLoader;
 import org.jetbrains.annotations.NotNull;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -12,8 +13,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Properties;
 
 public enum BaseI18n implements I18n {
     /**
@@ -33,12 +34,8 @@ public enum BaseI18n implements I18n {
 
             @Override
             protected Map<String, String> parseInputStream(@NotNull InputStream inputStream) throws IOException {
-                Properties properties = new Properties();
-                properties.load(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
                 Map<String, String> result = BaseLoader.createMap();
-                for (String key : properties.stringPropertyNames()) {
-                    result.put(key, properties.getProperty(key));
-                }
+                PropertiesParser.parse(new InputStreamReader(inputStream, StandardCharsets.UTF_8), result);
                 return result;
             }
 
@@ -66,6 +63,10 @@ public enum BaseI18n implements I18n {
      *          <boost>
      *              <xyz>Goldpiglin xyzzz</xyz>
      *          </boost>
+     *
+     *          <!-- Repeated elements become a list value -->
+     *          <lore>First line</lore>
+     *          <lore>Second line</lore>
      *      </goldpiglin>
      * </messages>
      * }</pre>
@@ -89,10 +90,11 @@ public enum BaseI18n implements I18n {
 
                     Element root = document.getDocumentElement();
 
+                    Map<String, Node> parents = new HashMap<>();
                     NodeList children = root.getChildNodes();
                     for (int i = 0; i < children.getLength(); i++) {
                         if (children.item(i) instanceof Element child)
-                            processXmlElement(child, "", result);
+                            processXmlElement(child, "", result, parents);
                     }
 
                     return result;
@@ -101,10 +103,10 @@ public enum BaseI18n implements I18n {
                 }
             }
 
-            private void processXmlElement(Element element, String prefix, Map<String, String> result) {
+            private void processXmlElement(Element element, String prefix, Map<String, String> result, Map<String, Node> parents) {
                 if (element.hasAttribute("id") && element.getTextContent() != null && !element.getTextContent().trim().isEmpty()) {
                     String key = element.getAttribute("id");
-                    result.put(key, element.getTextContent().trim());
+                    putValue(key, element, element.getTextContent().trim(), result, parents);
                     return;
                 }
 
@@ -123,18 +125,32 @@ public enum BaseI18n implements I18n {
 
                 if (!hasElementChildren && element.getTextContent() != null && !element.getTextContent().trim().isEmpty()) {
                     if (!nodeName.equals("messages") && !nodeName.equals("resources") && !nodeName.equals("strings")) {
-                        result.put(newPrefix, element.getTextContent().trim());
+                        putValue(newPrefix, element, element.getTextContent().trim(), result, parents);
                     }
                 }
 
                 NodeList children = element.getChildNodes();
                 for (int i = 0; i < children.getLength(); i++) {
                     if (children.item(i) instanceof Element) {
-                        processXmlElement((Element) children.item(i), newPrefix, result);
+                        processXmlElement((Element) children.item(i), newPrefix, result, parents);
                     }
                 }
             }
 
+            /**
+             * Repeated sibling elements become a list value, any other duplicate key keeps the last value.
+             */
+            private void putValue(String key, Element element, String value, Map<String, String> result, Map<String, Node> parents) {
+                Node parent = element.getParentNode();
+                String previous = result.get(key);
+                if (previous != null && parents.get(key) == parent) {
+                    result.put(key, previous + '\n' + value);
+                } else {
+                    result.put(key, value);
+                    parents.put(key, parent);
+                }
+            }
+
             private String getNewPrefix(String prefix, String nodeName) {
                 boolean isSpecialTag = false;
                 for (int i = 0; i < ignoredTags.length; i++) {
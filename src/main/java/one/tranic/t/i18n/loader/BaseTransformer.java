@@ -0,0 +1,125 @@
+package one.tranic.t.i18n.loader;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.text.Normalizer;
+
+public enum BaseTransformer implements ValueTransformer {
+    /**
+     * Strips leading and trailing whitespace of every line.
+     */
+    TRIM {
+        @Override
+        public @NotNull String transform(@NotNull String value) {
+            if (value.indexOf('\n') == -1) return value.strip();
+
+            String[] lines = value.split("\n", -1);
+            for (int i = 0; i < lines.length; i++) {
+                lines[i] = lines[i].strip();
+            }
+            return String.join("\n", lines);
+        }
+    },
+    /**
+     * Expands the {@code \n}, {@code \t} and {@code \\} escape sequences written literally in the source file.
+     * <p>
+     * This transformer is not idempotent, {@code \\n} would become a line break if it ran twice.
+     */
+    UNESCAPE {
+        @Override
+        public @NotNull String transform(@NotNull String value) {
+            int index = value.indexOf('\\');
+            if (index == -1) return value;
+
+            StringBuilder sb = new StringBuilder(value.length());
+            sb.append(value, 0, index);
+            for (int i = index; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c != '\\' || i + 1 == value.length()) {
+                    sb.append(c);
+                    continue;
+                }
+                char next = value.charAt(i + 1);
+                switch (next) {
+                    case 'n' -> sb.append('\n');
+                    case 't' -> sb.append('\t');
+                    case '\\' -> sb.append('\\');
+                    default -> {
+                        sb.append(c);
+                        continue;
+                    }
+                }
+                i++;
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public boolean isIdempotent() {
+            return false;
+        }
+    },
+    /**
+     * Translates {@code &} color and format codes into {@code §} codes,
+     * the same way as {@code ChatColor.translateAlternateColorCodes('&', value)}.
+     */
+    LEGACY_COLOR {
+        private static final String CODES = "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx";
+
+        @Override
+        public @NotNull String transform(@NotNull String value) {
+            if (value.indexOf('&') == -1) return value;
+
+            char[] chars = value.toCharArray();
+            for (int i = 0; i < chars.length - 1; i++) {
+                if (chars[i] == '&' && CODES.indexOf(chars[i + 1]) != -1) {
+                    chars[i] = '\u00A7';
+                    chars[i + 1] = Character.toLowerCase(chars[i + 1]);
+                }
+            }
+            return new String(chars);
+        }
+    },
+    /**
+     * Expands the {@code &#RRGGBB} hex color shorthand into the {@code §x§R§R§G§G§B§B} form understood by the client.
+     */
+    HEX_COLOR {
+        @Override
+        public @NotNull String transform(@NotNull String value) {
+            int index = value.indexOf("&#");
+            if (index == -1) return value;
+
+            StringBuilder sb = new StringBuilder(value.length() + 16);
+            int from = 0;
+            while (index != -1) {
+                if (isHex(value, index + 2)) {
+                    sb.append(value, from, index).append("\u00A7x");
+                    for (int i = index + 2; i < index + 8; i++) {
+                        sb.append('\u00A7').append(Character.toLowerCase(value.charAt(i)));
+                    }
+                    from = index + 8;
+                }
+                index = value.indexOf("&#", index + 2);
+            }
+            return sb.append(value, from, value.length()).toString();
+        }
+
+        private boolean isHex(String value, int from) {
+            if (from + 6 > value.length()) return false;
+            for (int i = from; i < from + 6; i++) {
+                if (Character.digit(value.charAt(i), 16) == -1) return false;
+            }
+            return true;
+        }
+    },
+    /**
+     * Normalizes the value to Unicode NFC, so visually identical text is stored with the same characters.
+     */
+    NORMALIZE {
+        @Override
+        public @NotNull String transform(@NotNull String value) {
+            if (Normalizer.isNormalized(value, Normalizer.Form.NFC)) return value;
+            return Normalizer.normalize(value, Normalizer.Form.NFC);
+        }
+    }
+}
@@ -6,6 +6,8 @@ import org.jetbrains.annotations.NotNull;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -14,13 +16,13 @@ import java.util.Map;
  * {
  *     "goldpiglin.test1": "Goldpiglin test",
  *     "goldpiglin.boost": "boost test",
- *     "goldpiglin.boost.xyz": "Goldpiglin xyzzz"
+ *     "goldpiglin.boost.xyz": "Goldpiglin xyzzz",
+ *     "goldpiglin.lore": ["First line", "Second line"]
  * }
  * }</pre>
  */
 public class GsonLoader implements I18n {
     private final ResourceLoader resourceLoader = new ResourceLoader() {
-        private final com.google.gson.Gson gson = new com.google.gson.Gson();
 
         @Override
         protected String getFileExtension() {
@@ -30,15 +32,31 @@ public class GsonLoader implements I18n {
         @Override
         protected Map<String, String> parseInputStream(@NotNull InputStream inputStream) {
             InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
-            com.google.gson.reflect.TypeToken<Map<String, String>> typeToken =
-                    new com.google.gson.reflect.TypeToken<>() {
-                    };
-            Map<String, String> jsonMap = gson.fromJson(reader, typeToken.getType());
+            com.google.gson.JsonElement json = com.google.gson.JsonParser.parseReader(reader);
             Map<String, String> result = BaseLoader.createMap();
-            if (jsonMap != null) result.putAll(jsonMap);
+            if (json.isJsonObject()) flattenJson(json.getAsJsonObject(), "", result);
             return result;
         }
 
+        private void flattenJson(com.google.gson.JsonObject object, String prefix, Map<String, String> result) {
+            for (Map.Entry<String, com.google.gson.JsonElement> entry : object.entrySet()) {
+                String key = prefix.isEmpty() ? entry.getKey() : prefix + "." + entry.getKey();
+                com.google.gson.JsonElement value = entry.getValue();
+
+                if (value.isJsonObject()) {
+                    flattenJson(value.getAsJsonObject(), key, result);
+                } else if (value.isJsonArray()) {
+                    List<String> lines = new ArrayList<>(value.getAsJsonArray().size());
+                    for (com.google.gson.JsonElement line : value.getAsJsonArray()) {
+                        lines.add(line.isJsonPrimitive() ? line.getAsString() : line.toString());
+                    }
+                    result.put(key, I18n.joinLines(lines));
+                } else if (!value.isJsonNull()) {
+                    result.put(key, value.getAsString());
+                }
+            }
+        }
+
         @Override
         protected String getFormatName() {
             return "JSON";
@@ -9,6 +9,7 @@ import java.io.InputStream;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Locale;
 import java.util.Map;
 
@@ -23,12 +24,35 @@ public interface I18n {
 
             if (value instanceof Map) {
                 flattenYaml((Map<String, Object>) value, key, result);
+            } else if (value instanceof Collection<?> list) {
+                result.put(key, joinLines(list));
             } else if (value != null) {
                 result.put(key, value.toString());
             }
         }
     }
 
+    /**
+     * Joins the elements of a list value into a single newline separated value.
+     * <p>
+     * List values are stored this way so that they survive the {@code Map<String, String>} contract of the adapters,
+     * the loader splits them back into immutable line arrays once when the bundle is installed.
+     * An empty list becomes an empty value, which the loader returns as an empty list of lines.
+     *
+     * @param list the list value read from the source file
+     * @return the elements joined with {@code '\n'}, or an empty string for an empty list
+     */
+    static @NotNull String joinLines(@NotNull Collection<?> list) {
+        StringBuilder sb = new StringBuilder();
+        boolean first = true;
+        for (Object line : list) {
+            if (!first) sb.append('\n');
+            sb.append(line);
+            first = false;
+        }
+        return sb.toString();
+    }
+
     static @NotNull String getBasePath(@Nullable String namespace, @NotNull Locale locale) {
         return namespace != null ? namespace + "/" + locale : locale.toString();
     }
@@ -48,6 +72,36 @@ public interface I18n {
 
     @NotNull ResourceLoader getResourceLoader();
 
+    /**
+     * Returns an adapter that applies the given transformers, in order, to every value once while a bundle is loaded.
+     * <p>
+     * The chain runs exactly as given, after any transformers this adapter already applies.
+     * <p>
+     * Example, expanding the {@code \n} escapes YAML keeps literally in plain scalars
+     * (Properties and JSON values are already unescaped by their parser):
+     * <pre>{@code
+     * I18n adapter = new YmlLoader().withTransformers(BaseTransformer.UNESCAPE, BaseTransformer.HEX_COLOR, BaseTransformer.LEGACY_COLOR);
+     * }</pre>
+     *
+     * @param transformers the transformers to apply after parsing
+     * @return a new adapter reading the same format with the transformer chain applied
+     * @throws IllegalArgumentException if a non-idempotent transformer would be applied twice
+     */
+    default @NotNull I18n withTransformers(@NotNull ValueTransformer... transformers) throws IllegalArgumentException {
+        ResourceLoader resourceLoader = TransformingResourceLoader.of(getResourceLoader(), transformers);
+        return new I18n() {
+            @Override
+            public @NotNull ResourceLoader getResourceLoader() {
+                return resourceLoader;
+            }
+
+            @Override
+            public String toString() {
+                return resourceLoader.toString();
+            }
+        };
+    }
+
     @NotNull
     default Map<String, String> load(@NotNull InputStream inputStream) throws IOException {
         return getResourceLoader().load(inputStream);
@@ -0,0 +1,322 @@
+package one.tranic.t.i18n.loader;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An adapter reading several formats from the same folder, dispatching every file to the adapter of its format.
+ * <p>
+ * A directory is listed once and indexed by locale. Later loads only check the modification time of the directory,
+ * and rebuild the index when it changed, when the requested locale is missing from it or after {@link #invalidate()}.
+ * When a locale exists in several formats, the adapter
+ * registered first wins. Files are dispatched by their extension; only input streams and files with an unknown
+ * extension are dispatched by looking at their first bytes.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * I18n adapter = new MultiFormatLoader(new YmlLoader(), new GsonLoader(), BaseI18n.PROPERTIES);
+ * BaseLoader loader = new BaseLoader(dataFolder.toPath().resolve("lang"), adapter);
+ * loader.setLanguage(Locale.ENGLISH);
+ * loader.update();
+ * }</pre>
+ */
+public class MultiFormatLoader implements I18n {
+    private static final int SNIFF_LENGTH = 4096;
+
+    private final @NotNull ResourceLoader[] loaders;
+    private final @NotNull Map<Path, Index> indexes = new ConcurrentHashMap<>();
+    private final ResourceLoader resourceLoader = new ResourceLoader() {
+        @Override
+        protected String getFileExtension() {
+            return loaders[0].getFileExtension();
+        }
+
+        @Override
+        protected String getAlternativeFileExtension() {
+            return loaders[0].getAlternativeFileExtension();
+        }
+
+        @Override
+        protected String getFormatName() {
+            return "Multi-format";
+        }
+
+        @Override
+        protected Map<String, String> parseInputStream(@NotNull InputStream inputStream) throws IOException {
+            return parse(inputStream, null);
+        }
+
+        @Override
+        public Map<String, String> load(@NotNull File file) throws IOException {
+            ResourceLoader loader = byName(file.getName());
+            if (loader != null) return loader.load(file);
+            if (!file.isFile() || !file.canRead()) return super.load(file);
+
+            try (InputStream is = new FileInputStream(file)) {
+                return parse(is, file.getName());
+            } catch (IOException e) {
+                throw new IOException("Failed to load " + getFormatName() + " file for "
+                        + file, e);
+            }
+        }
+
+        @Override
+        public Map<String, String> load(@NotNull Path path, @NotNull Locale locale) throws IOException, IllegalArgumentException {
+            if (path == null) throw new IllegalArgumentException("Path must not be null");
+            if (locale == null) locale = Locale.getDefault();
+
+            String name = locale.toString();
+            Index previous = indexes.get(path);
+            Index index = index(path, false);
+            Located located = index.files.get(name);
+            if ((located == null || !located.file.isFile()) && index == previous && index.rescanned.add(name)) {
+                // Coarse modification times can hide a file added or removed within the same tick,
+                // every missing locale rescans the directory at most once per index
+                index = index(path, true);
+                located = index.files.get(name);
+            }
+            if (located == null)
+                throw new FileNotFoundException("Failed to load " + getFormatName() + " file for "
+                        + path + " in " + locale);
+            return located.loader.load(located.file);
+        }
+
+        @Override
+        public Map<String, String> load(@NotNull Class<?> clazz, @NotNull String namespace, @NotNull Locale locale) throws IOException, IllegalArgumentException {
+            if (clazz == null)
+                throw new IOException("Failed to load " + getFormatName() + " file for "
+                        + namespace + " in " + locale + ": class is null");
+            if (namespace == null)
+                throw new IllegalArgumentException("Namespace must not be null when loading from a class");
+            if (locale == null) locale = Locale.getDefault();
+
+            String basePath = I18n.getBasePath(namespace, locale);
+            for (ResourceLoader loader : loaders) {
+                InputStream inputStream = I18n.getResource(clazz, basePath + loader.getFileExtension());
+                String alternativeExt = loader.getAlternativeFileExtension();
+                if (inputStream == null && alternativeExt != null)
+                    inputStream = I18n.getResource(clazz, basePath + alternativeExt);
+                if (inputStream == null) continue;
+
+                try (InputStream is = inputStream) {
+                    return loader.parseInputStream(is);
+                }
+            }
+            throw new FileNotFoundException("Failed to load " + getFormatName() + " file for "
+                    + clazz.getName() + " in " + locale);
+        }
+
+        @Override
+        public String toString() {
+            return MultiFormatLoader.this.toString();
+        }
+    };
+
+    /**
+     * Creates an adapter dispatching to the given adapters, in order of priority.
+     *
+     * @param adapters the adapters of the supported formats
+     * @throws IllegalArgumentException if no adapter is given
+     */
+    public MultiFormatLoader(@NotNull I18n... adapters) throws IllegalArgumentException {
+        if (adapters.length == 0) throw new IllegalArgumentException("At least one adapter is required");
+        this.loaders = new ResourceLoader[adapters.length];
+        for (int i = 0; i < adapters.length; i++) {
+            loaders[i] = adapters[i].getResourceLoader();
+        }
+    }
+
+    /**
+     * Guesses the format of a translation file from its first characters.
+     * <p>
+     * An opening brace or bracket is JSON and an opening angle bracket is XML. Otherwise the first entry decides:
+     * a key followed by a colon and a space, or a list item, is YAML, any other separator is Properties.
+     *
+     * @param head the first bytes of the file
+     * @return the file extension of the detected format, or null if the content has no entries
+     */
+    static @Nullable String sniff(byte @NotNull [] head) {
+        String text = new String(head, StandardCharsets.UTF_8);
+        int i = 0;
+        if (text.startsWith("\uFEFF")) i++;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) i++;
+        if (i == text.length()) return null;
+
+        char first = text.charAt(i);
+        if (first == '{' || first == '[') return ".json";
+        if (first == '<') return ".xml";
+
+        for (String line : text.substring(i).split("\r?\n|\r")) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) continue;
+            if (trimmed.startsWith("!")) return ".properties";
+            if (trimmed.startsWith("---") || trimmed.startsWith("- ")) return ".yml";
+
+            for (int j = 0; j < trimmed.length(); j++) {
+                char c = trimmed.charAt(j);
+                if (c == '\\') {
+                    j++;
+                } else if (c == '=') {
+                    return ".properties";
+                } else if (c == ' ' || c == '\t' || c == '\f') {
+                    int k = j;
+                    while (k < trimmed.length() && (trimmed.charAt(k) == ' ' || trimmed.charAt(k) == '\t')) k++;
+                    return k < trimmed.length() && trimmed.charAt(k) == ':' && isYamlColon(trimmed, k) ? ".yml" : ".properties";
+                } else if (c == ':') {
+                    return isYamlColon(trimmed, j) ? ".yml" : ".properties";
+                }
+            }
+            return ".properties";
+        }
+        return null;
+    }
+
+    private static boolean isYamlColon(@NotNull String line, int index) {
+        return index + 1 == line.length() || line.charAt(index + 1) == ' ';
+    }
+
+    /**
+     * Forgets every scanned directory, they are listed again on their next load.
+     */
+    public void invalidate() {
+        indexes.clear();
+    }
+
+    @Override
+    public @NotNull ResourceLoader getResourceLoader() {
+        return resourceLoader;
+    }
+
+    private @NotNull Map<String, String> parse(@NotNull InputStream inputStream, @Nullable String name) throws IOException {
+        String extension = name == null ? null : extension(name);
+        if (extension != null) return detect(extension).parseInputStream(inputStream);
+
+        BufferedInputStream buffered = new BufferedInputStream(inputStream, SNIFF_LENGTH);
+        buffered.mark(SNIFF_LENGTH);
+        byte[] head = buffered.readNBytes(SNIFF_LENGTH);
+        buffered.reset();
+        extension = sniff(head);
+        return (extension == null ? loaders[0] : detect(extension)).parseInputStream(buffered);
+    }
+
+    /**
+     * @return the extension of a file name if it is one of the formats {@link #sniff(byte[])} can detect, otherwise null
+     */
+    static @Nullable String extension(@NotNull String name) {
+        int dot = name.lastIndexOf('.');
+        if (dot == -1) return null;
+        String extension = name.substring(dot).toLowerCase(Locale.ROOT);
+        return switch (extension) {
+            case ".json", ".xml", ".properties", ".yml" -> extension;
+            case ".yaml" -> ".yml";
+            default -> null;
+        };
+    }
+
+    private @NotNull ResourceLoader detect(@NotNull String extension) throws IOException {
+        for (ResourceLoader loader : loaders) {
+            if (extension.equals(loader.getFileExtension()) || extension.equals(loader.getAlternativeFileExtension()))
+                return loader;
+        }
+        if (extension.equals(".yml")) {
+            for (ResourceLoader loader : loaders) {
+                if (".yaml".equals(loader.getFileExtension())) return loader;
+            }
+        }
+        throw new IOException("No adapter registered for the " + extension + " format");
+    }
+
+    private @Nullable ResourceLoader byName(@NotNull String name) {
+        for (ResourceLoader loader : loaders) {
+            if (name.endsWith(loader.getFileExtension())) return loader;
+            String alternativeExt = loader.getAlternativeFileExtension();
+            if (alternativeExt != null && name.endsWith(alternativeExt)) return loader;
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the index of a directory, listing it only if it is not indexed yet, its modification time changed
+     * or a rescan is forced.
+     */
+    private @NotNull Index index(@NotNull Path path, boolean rescan) throws IOException {
+        FileTime modified;
+        try {
+            modified = Files.getLastModifiedTime(path);
+        } catch (NoSuchFileException e) {
+            indexes.remove(path);
+            throw new FileNotFoundException("Failed to load " + resourceLoader.getFormatName() + " files: "
+                    + path + " does not exist");
+        }
+
+        Index index = indexes.get(path);
+        if (!rescan && index != null && index.modified.equals(modified)) return index;
+
+        Map<String, Located> files = new HashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                for (int i = 0; i < loaders.length; i++) {
+                    ResourceLoader loader = loaders[i];
+                    String alternativeExt = loader.getAlternativeFileExtension();
+                    int priority;
+                    String locale;
+                    if (name.endsWith(loader.getFileExtension())) {
+                        priority = i * 2;
+                        locale = name.substring(0, name.length() - loader.getFileExtension().length());
+                    } else if (alternativeExt != null && name.endsWith(alternativeExt)) {
+                        priority = i * 2 + 1;
+                        locale = name.substring(0, name.length() - alternativeExt.length());
+                    } else {
+                        continue;
+                    }
+
+                    Located previous = files.get(locale);
+                    if ((previous == null || previous.priority > priority) && Files.isRegularFile(file))
+                        files.put(locale, new Located(file.toFile(), loader, priority));
+                    break;
+                }
+            }
+        }
+
+        boolean unchanged = index != null && index.modified.equals(modified);
+        index = new Index(modified, files, unchanged ? index.rescanned : ConcurrentHashMap.newKeySet());
+        indexes.put(path, index);
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "MultiFormatLoader{" +
+                "loaders=" + Arrays.toString(loaders) +
+                '}';
+    }
+
+    /**
+     * @param rescanned the missing locales that already caused a rescan of this index
+     */
+    private record Index(@NotNull FileTime modified, @NotNull Map<String, Located> files, @NotNull Set<String> rescanned) {
+    }
+
+    private record Located(@NotNull File file, @NotNull ResourceLoader loader, int priority) {
+    }
+}
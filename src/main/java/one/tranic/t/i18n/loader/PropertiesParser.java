@@ -0,0 +1,193 @@
+package one.tranic.t.i18n.loader;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A streaming {@code .properties} parser writing entries straight into the target map.
+ * <p>
+ * It follows the grammar of {@link java.util.Properties#load(Reader)} exactly: comment lines starting with
+ * {@code #} or {@code !}, continuation lines ending with an odd number of backslashes, {@code =}, {@code :}
+ * or whitespace as key terminators, and the {@code \t \n \r \f \\uXXXX} escapes.
+ * Unlike {@code Properties} it keeps no synchronized table and no intermediate copies of the keys.
+ */
+final class PropertiesParser {
+    private final @NotNull Reader reader;
+    private final char[] buf = new char[8192];
+    private int pos;
+    private int limit;
+    private boolean skipLF;
+
+    private char[] lineBuf = new char[256];
+    private final StringBuilder out = new StringBuilder();
+
+    private PropertiesParser(@NotNull Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Parses the characters read from the given reader into the target map.
+     */
+    static void parse(@NotNull Reader reader, @NotNull Map<String, String> result) throws IOException {
+        new PropertiesParser(reader).parse(result);
+    }
+
+    private void parse(@NotNull Map<String, String> result) throws IOException {
+        int length;
+        while ((length = readLine()) >= 0) {
+            int keyLength = 0;
+            int valueStart = length;
+            boolean hasSeparator = false;
+            boolean precedingBackslash = false;
+
+            while (keyLength < length) {
+                char c = lineBuf[keyLength];
+                if ((c == '=' || c == ':') && !precedingBackslash) {
+                    valueStart = keyLength + 1;
+                    hasSeparator = true;
+                    break;
+                } else if ((c == ' ' || c == '\t' || c == '\f') && !precedingBackslash) {
+                    valueStart = keyLength + 1;
+                    break;
+                }
+                precedingBackslash = c == '\\' && !precedingBackslash;
+                keyLength++;
+            }
+
+            while (valueStart < length) {
+                char c = lineBuf[valueStart];
+                if (c != ' ' && c != '\t' && c != '\f') {
+                    if (!hasSeparator && (c == '=' || c == ':')) hasSeparator = true;
+                    else break;
+                }
+                valueStart++;
+            }
+
+            String key = convert(0, keyLength);
+            String value = convert(valueStart, length);
+            result.put(key, value);
+        }
+    }
+
+    /**
+     * Reads the next char, or -1 at the end of the input.
+     */
+    private int next() throws IOException {
+        if (pos >= limit && !fill()) return -1;
+        return buf[pos++];
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buf);
+        if (read <= 0) return false;
+        pos = 0;
+        limit = read;
+        return true;
+    }
+
+    /**
+     * Reads one logical line into {@link #lineBuf}, joining continuation lines and skipping comments and blank lines.
+     *
+     * @return the length of the line, or -1 at the end of the input
+     */
+    private int readLine() throws IOException {
+        int length = 0;
+        boolean skipWhiteSpace = true;
+        boolean appendedLineBegin = false;
+        boolean precedingBackslash = false;
+
+        while (true) {
+            int read = next();
+            if (read == -1) {
+                if (length == 0) return -1;
+                return precedingBackslash ? length - 1 : length;
+            }
+            char c = (char) read;
+
+            if (skipLF) {
+                skipLF = false;
+                if (c == '\n') continue;
+            }
+            if (skipWhiteSpace) {
+                if (c == ' ' || c == '\t' || c == '\f') continue;
+                if (!appendedLineBegin && (c == '\r' || c == '\n')) continue;
+                skipWhiteSpace = false;
+                appendedLineBegin = false;
+            }
+            if (length == 0 && (c == '#' || c == '!')) {
+                int skipped;
+                do {
+                    skipped = next();
+                    if (skipped == -1) return -1;
+                } while (skipped != '\r' && skipped != '\n');
+                skipWhiteSpace = true;
+                continue;
+            }
+
+            if (c != '\n' && c != '\r') {
+                if (length == lineBuf.length) lineBuf = Arrays.copyOf(lineBuf, length * 2);
+                lineBuf[length++] = c;
+                precedingBackslash = c == '\\' && !precedingBackslash;
+                continue;
+            }
+
+            if (length == 0) {
+                skipWhiteSpace = true;
+                continue;
+            }
+            if (pos >= limit && !fill()) {
+                return precedingBackslash ? length - 1 : length;
+            }
+            if (!precedingBackslash) return length;
+
+            length -= 1;
+            skipWhiteSpace = true;
+            appendedLineBegin = true;
+            precedingBackslash = false;
+            if (c == '\r') skipLF = true;
+        }
+    }
+
+    private @NotNull String convert(int from, int to) throws IOException {
+        out.setLength(0);
+        while (from < to) {
+            char c = lineBuf[from++];
+            if (c != '\\') {
+                out.append(c);
+                continue;
+            }
+
+            c = lineBuf[from++];
+            if (c == 'u') {
+                if (from > to - 4) throw new IOException("Malformed \\uxxxx encoding.");
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = hex(lineBuf[from++]);
+                    if (digit == -1) throw new IOException("Malformed \\uxxxx encoding.");
+                    value = (value << 4) + digit;
+                }
+                out.append((char) value);
+            } else {
+                switch (c) {
+                    case 't' -> out.append('\t');
+                    case 'r' -> out.append('\r');
+                    case 'n' -> out.append('\n');
+                    case 'f' -> out.append('\f');
+                    default -> out.append(c);
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    private static int hex(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+}
@@ -4,6 +4,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
@@ -36,7 +37,7 @@ public abstract class ResourceLoader {
         if (file == null)
             throw new IOException("Failed to load " + getFormatName() + " file: file is null");
         if (!file.exists())
-            throw new IOException("Failed to load " + getFormatName() + " file: file does not exist");
+            throw new FileNotFoundException("Failed to load " + getFormatName() + " file: file does not exist");
         if (!file.isFile())
             throw new IOException("Failed to load " + getFormatName() + " file: file is not a file");
         if (!file.canRead())
@@ -57,12 +58,11 @@ public abstract class ResourceLoader {
         var file = path.resolve(locale + getFileExtension()).toFile();
         if (!file.exists()) {
             String alternativeExt = getAlternativeFileExtension();
-            if (alternativeExt != null) {
-                file = path.resolve(locale + getAlternativeFileExtension()).toFile();
-                if (!file.exists())
-                    throw new IOException("Failed to load " + getFormatName() + " file for "
-                            + path + " in " + locale);
-            }
+            if (alternativeExt != null)
+                file = path.resolve(locale + alternativeExt).toFile();
+            if (!file.exists())
+                throw new FileNotFoundException("Failed to load " + getFormatName() + " file for "
+                        + path + " in " + locale);
         }
 
         try (InputStream is = new FileInputStream(file)) {
@@ -92,7 +92,7 @@ public abstract class ResourceLoader {
         }
 
         if (inputStream == null) {
-            throw new IOException("Failed to load " + getFormatName() + " file for "
+            throw new FileNotFoundException("Failed to load " + getFormatName() + " file for "
                     + clazz.getName() + " in " + locale);
         }
 
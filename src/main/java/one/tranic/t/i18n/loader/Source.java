@@ -0,0 +1,114 @@
+package one.tranic.t.i18n.loader;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A location translations are read from together with the adapter that parses it,
+ * used as one layer of a layered loader.
+ * <p>
+ * Example, JAR defaults overridden by files in the data folder:
+ * <pre>{@code
+ * BaseLoader loader = new BaseLoader(List.of(
+ *         Source.of(MyPlugin.class, "lang", new YmlLoader()),
+ *         Source.of(dataFolder.resolve("lang"), BaseI18n.PROPERTIES).optional()
+ * ), Locale.ENGLISH);
+ * }</pre>
+ */
+public final class Source {
+    private final @Nullable File file;
+    private final @Nullable Path path;
+    private final @Nullable Class<?> clazz;
+    private final @Nullable String namespace;
+    private final @NotNull I18n adaptar;
+    private final boolean optional;
+
+    private Source(@Nullable File file, @Nullable Path path, @Nullable Class<?> clazz, @Nullable String namespace, @NotNull I18n adaptar, boolean optional) {
+        this.file = file;
+        this.path = path;
+        this.clazz = clazz;
+        this.namespace = namespace;
+        this.adaptar = adaptar;
+        this.optional = optional;
+    }
+
+    /**
+     * A single file, used for every locale.
+     */
+    public static @NotNull Source of(@NotNull File file, @NotNull I18n adaptar) {
+        return new Source(file, null, null, null, adaptar, false);
+    }
+
+    /**
+     * A directory containing one file per locale, such as {@code en.yml}.
+     */
+    public static @NotNull Source of(@NotNull Path path, @NotNull I18n adaptar) {
+        return new Source(null, path, null, null, adaptar, false);
+    }
+
+    /**
+     * A resource directory on the classpath of the given class containing one file per locale.
+     */
+    public static @NotNull Source of(@NotNull Class<?> clazz, @NotNull String namespace, @NotNull I18n adaptar) {
+        return new Source(null, null, clazz, namespace, adaptar, false);
+    }
+
+    /**
+     * Returns a copy of this source that contributes no entries, instead of failing,
+     * when the file for the requested locale does not exist.
+     *
+     * @return an optional copy of this source
+     */
+    public @NotNull Source optional() {
+        return new Source(file, path, clazz, namespace, adaptar, true);
+    }
+
+    public boolean isOptional() {
+        return optional;
+    }
+
+    public @NotNull I18n getAdapter() {
+        return adaptar;
+    }
+
+    /**
+     * Loads the translations of this source for the given locale.
+     *
+     * @param locale the locale to load, ignored by single file sources
+     * @return the parsed translations
+     * @throws IOException if the source could not be read, or does not exist and is not optional
+     */
+    public @NotNull Map<String, String> load(@NotNull Locale locale) throws IOException {
+        try {
+            if (file != null) return adaptar.load(file);
+            if (path != null) return adaptar.load(path, locale);
+            if (clazz != null && namespace != null) return adaptar.load(clazz, namespace, locale);
+            throw new IOException("Invalid configuration for loading language map");
+        } catch (FileNotFoundException e) {
+            if (optional) return Map.of();
+            throw e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Source{");
+        if (file != null)
+            sb.append("file='").append(file).append('\'');
+        if (path != null)
+            sb.append("path='").append(path).append('\'');
+        if (clazz != null)
+            sb.append("class=").append(clazz.getName()).append(", namespace='").append(namespace).append('\'');
+        if (optional)
+            sb.append(", optional");
+        sb.append(", adaptar=").append(adaptar).append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package one.tranic.t.i18n.loader;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link ResourceLoader} that runs a chain of {@link ValueTransformer}s over every value parsed by its delegate,
+ * exactly in the order they were given.
+ */
+final class TransformingResourceLoader extends ResourceLoader {
+    private final @NotNull ResourceLoader delegate;
+    private final @NotNull ValueTransformer[] transformers;
+
+    private TransformingResourceLoader(@NotNull ResourceLoader delegate, @NotNull ValueTransformer[] transformers) {
+        this.delegate = delegate;
+        this.transformers = transformers;
+    }
+
+    static @NotNull ResourceLoader of(@NotNull ResourceLoader loader, @NotNull ValueTransformer... transformers) throws IllegalArgumentException {
+        ResourceLoader delegate = loader;
+        List<ValueTransformer> chain = new ArrayList<>();
+        if (loader instanceof TransformingResourceLoader transforming) {
+            delegate = transforming.delegate;
+            chain.addAll(Arrays.asList(transforming.transformers));
+        }
+
+        for (ValueTransformer transformer : transformers) {
+            if (!transformer.isIdempotent() && chain.contains(transformer))
+                throw new IllegalArgumentException("Transformer " + transformer + " is not idempotent and is already part of the chain");
+            chain.add(transformer);
+        }
+        return new TransformingResourceLoader(delegate, chain.toArray(new ValueTransformer[0]));
+    }
+
+    @Override
+    protected String getFileExtension() {
+        return delegate.getFileExtension();
+    }
+
+    @Override
+    protected String getAlternativeFileExtension() {
+        return delegate.getAlternativeFileExtension();
+    }
+
+    @Override
+    protected String getFormatName() {
+        return delegate.getFormatName();
+    }
+
+    @Override
+    protected Map<String, String> parseInputStream(@NotNull InputStream inputStream) throws IOException {
+        Map<String, String> result = delegate.parseInputStream(inputStream);
+        result.replaceAll((key, value) -> transform(value));
+        return result;
+    }
+
+    private @NotNull String transform(@NotNull String value) {
+        for (ValueTransformer transformer : transformers) {
+            value = transformer.transform(value);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "TransformingResourceLoader{" +
+                "delegate=" + delegate +
+                ", transformers=" + Arrays.toString(transformers) +
+                '}';
+    }
+}
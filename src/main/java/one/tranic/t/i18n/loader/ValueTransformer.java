@@ -0,0 +1,32 @@
+package one.tranic.t.i18n.loader;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Rewrites a localized value once while the bundle is loaded, so renders only have to substitute arguments.
+ *
+ * @see BaseTransformer
+ * @see I18n#withTransformers(ValueTransformer...)
+ */
+@FunctionalInterface
+public interface ValueTransformer {
+    /**
+     * Transforms a single localized value.
+     *
+     * @param value the value read from the source, list values are newline separated
+     * @return the transformed value
+     */
+    @NotNull String transform(@NotNull String value);
+
+    /**
+     * Whether applying this transformer to its own output leaves the value unchanged.
+     * <p>
+     * Idempotent transformers may safely see text that has already been transformed,
+     * non-idempotent ones (such as {@link BaseTransformer#UNESCAPE}) must run exactly once per value.
+     *
+     * @return {@code true} if the transformer is idempotent
+     */
+    default boolean isIdempotent() {
+        return true;
+    }
+}
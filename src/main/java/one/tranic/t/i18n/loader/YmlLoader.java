@@ -14,6 +14,9 @@ import java.util.Map;
  * goldpiglin
  *      boost:
  *          xyz: Goldpiglin xyzzz
+ *      lore:
+ *          - First line
+ *          - Second line
  * }</pre>
  */
 public class YmlLoader implements I18n {
@@ -0,0 +1,91 @@
+package one.tranic.t.i18n;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BundleTest {
+    private static final Map<String, String> LANGUAGE = Map.of(
+            "menu.shop", "Shop",
+            "menu.shop.title", "Shop title",
+            "menu.shop.item.name", "Sword",
+            "menu.shopkeeper", "Keeper",
+            "menu.exit", "Exit",
+            "chat.prefix", "[Chat]"
+    );
+
+    @Test
+    void lookups() {
+        Bundle bundle = Bundle.of(LANGUAGE);
+        assertEquals(6, bundle.size());
+        assertEquals("Sword", bundle.get("menu.shop.item.name"));
+        assertNull(bundle.get("menu"));
+        assertTrue(bundle.contains("chat.prefix"));
+        assertFalse(bundle.contains("chat"));
+        assertSame(Bundle.EMPTY, Bundle.of(Map.of()));
+    }
+
+    @Test
+    void keysAreSorted() {
+        assertEquals(List.of("chat.prefix", "menu.exit", "menu.shop", "menu.shop.item.name", "menu.shop.title", "menu.shopkeeper"),
+                Bundle.of(LANGUAGE).keys());
+    }
+
+    @Test
+    void keysWithPrefixMatchPlainText() {
+        Bundle bundle = Bundle.of(LANGUAGE);
+        assertEquals(List.of("menu.shop", "menu.shop.item.name", "menu.shop.title", "menu.shopkeeper"), bundle.keysWithPrefix("menu.shop"));
+        assertEquals(List.of(), bundle.keysWithPrefix("zzz"));
+        assertEquals(bundle.keys(), bundle.keysWithPrefix(""));
+    }
+
+    @Test
+    void subtreeContainsOnlyChildren() {
+        Bundle bundle = Bundle.of(LANGUAGE);
+        Map<String, String> subtree = bundle.subtree("menu.shop");
+        assertEquals(Map.of("menu.shop.title", "Shop title", "menu.shop.item.name", "Sword"), subtree);
+        assertEquals("Sword", subtree.get("menu.shop.item.name"));
+        assertNull(subtree.get("menu.shopkeeper"));
+        assertNull(subtree.get("chat.prefix"));
+        assertFalse(subtree.containsKey("menu.shop"));
+        assertEquals(LANGUAGE, bundle.subtree(""));
+        assertTrue(bundle.subtree("chat.prefix").isEmpty());
+    }
+
+    @Test
+    void viewsAreUnmodifiable() {
+        Bundle bundle = Bundle.of(LANGUAGE);
+        assertThrows(UnsupportedOperationException.class, () -> bundle.asMap().put("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> bundle.keys().remove(0));
+    }
+
+    @Test
+    void bundleIsACopy() {
+        Map<String, String> language = new HashMap<>(LANGUAGE);
+        Bundle bundle = Bundle.of(language);
+        language.put("chat.prefix", "changed");
+        assertEquals("[Chat]", bundle.get("chat.prefix"));
+    }
+
+    @Test
+    void equalAcrossStorageModes() throws IOException {
+        Bundle heap = Bundle.of(LANGUAGE, StorageMode.HEAP);
+        for (StorageMode mode : StorageMode.values()) {
+            Bundle bundle = Bundle.of(LANGUAGE, mode);
+            assertEquals(heap, bundle, mode.name());
+            assertEquals(heap.hashCode(), bundle.hashCode(), mode.name());
+            assertEquals(heap.checksum(), bundle.checksum(), mode.name());
+            assertEquals(LANGUAGE, bundle.asMap(), mode.name());
+        }
+    }
+}
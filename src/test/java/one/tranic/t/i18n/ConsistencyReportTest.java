@@ -0,0 +1,133 @@
+package one.tranic.t.i18n;
+
+import one.tranic.t.i18n.loader.BaseI18n;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsistencyReportTest {
+    @TempDir
+    Path dir;
+
+    private static Bundle bundle(Locale locale, String... entries) throws IOException {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            map.put(entries[i], entries[i + 1]);
+        }
+        return Bundle.of(map, locale, StorageMode.HEAP);
+    }
+
+    private static ConsistencyReport check(Bundle reference, Bundle other) {
+        return ConsistencyReport.check(reference.locale(), reference, Map.of(other.locale(), other));
+    }
+
+    @Test
+    void reportsMismatchedPlaceholders() throws IOException {
+        Bundle english = bundle(Locale.ENGLISH,
+                "named", "Hello {player}",
+                "brace", "{} killed {}",
+                "printf", "%s has %d coins",
+                "plural", "{count, plural, one {# item} other {# items}}",
+                "same", "Hi {0}");
+        Bundle german = bundle(Locale.GERMAN,
+                "named", "Hallo {name}",
+                "brace", "{} wurde getötet",
+                "printf", "%s hat %s Münzen",
+                "plural", "{count, plural, one {# Gegenstand} other {# Gegenstände}}",
+                "same", "Hi {0}",
+                "extra", "{unused}");
+
+        List<ConsistencyReport.Issue> issues = check(english, german).issues();
+        assertEquals(List.of("brace", "named", "printf"), issues.stream().map(ConsistencyReport.Issue::key).toList());
+        for (ConsistencyReport.Issue issue : issues) {
+            assertEquals(Locale.GERMAN, issue.locale());
+            assertEquals(ConsistencyReport.Kind.MISMATCH, issue.kind());
+        }
+        assertEquals("{}x2", issues.get(0).expected());
+        assertEquals("{}x1", issues.get(0).actual());
+        assertEquals("{player}", issues.get(1).expected());
+        assertEquals("{name}", issues.get(1).actual());
+    }
+
+    @Test
+    void ignoresEscapedPercentAndLiteralBraces() throws IOException {
+        Bundle english = bundle(Locale.ENGLISH, "sale", "50% off for %s", "smile", "Smile :}");
+        Bundle german = bundle(Locale.GERMAN, "sale", "%s: 50%% Rabatt%n", "smile", "Lächeln");
+        assertTrue(check(english, german).isEmpty());
+    }
+
+    @Test
+    void reportsSyntaxErrors() throws IOException {
+        Bundle english = bundle(Locale.ENGLISH, "files", "{0, plural, one {# file} other {# files}}", "broken", "{0, choice, 0#none}");
+        Bundle german = bundle(Locale.GERMAN, "files", "{0, plural, one {# Datei}}");
+
+        ConsistencyReport report = check(english, german);
+        assertEquals(Locale.ENGLISH, report.getReference());
+        assertEquals(2, report.issues().size());
+        assertEquals(ConsistencyReport.Kind.SYNTAX, report.issues(Locale.ENGLISH).get(0).kind());
+        assertEquals("broken", report.issues(Locale.ENGLISH).get(0).key());
+        assertEquals(ConsistencyReport.Kind.SYNTAX, report.issues(Locale.GERMAN).get(0).kind());
+        assertEquals("files", report.issues(Locale.GERMAN).get(0).key());
+    }
+
+    private BaseLoader loader(PlaceholderCheck check) throws IOException {
+        Files.writeString(dir.resolve("en.properties"), "greeting=Hello {player}\ncoins=%d coins\n");
+        Files.writeString(dir.resolve("de.properties"), "greeting=Hallo {name}\ncoins=%d Münzen\n");
+        BaseLoader loader = new BaseLoader(dir, BaseI18n.PROPERTIES);
+        loader.setLanguage(Locale.ENGLISH);
+        loader.setPlaceholderCheck(check);
+        loader.setLocaleCache(new LocaleCache(loader, Runnable::run, 0, 0));
+        loader.update();
+        return loader;
+    }
+
+    @Test
+    void offChecksNothing() throws IOException {
+        BaseLoader loader = loader(PlaceholderCheck.OFF);
+        assertEquals("Hallo {name}", loader.forLocale(Locale.GERMAN).to("greeting"));
+        assertSame(ConsistencyReport.EMPTY, loader.getConsistencyReport());
+        assertEquals(1, loader.checkConsistency().issues().size());
+    }
+
+    @Test
+    void reportRecordsIssuesOfCachedLocales() throws IOException {
+        BaseLoader loader = loader(PlaceholderCheck.REPORT);
+        assertTrue(loader.getConsistencyReport().isEmpty());
+
+        assertEquals("Hallo {name}", loader.forLocale(Locale.GERMAN).to("greeting"));
+        List<ConsistencyReport.Issue> issues = loader.getConsistencyReport().issues(Locale.GERMAN);
+        assertEquals(1, issues.size());
+        assertEquals("greeting", issues.get(0).key());
+
+        Files.writeString(dir.resolve("de.properties"), "greeting=Hallo {player}\ncoins=%d Münzen\n");
+        loader.update();
+        loader.getLocaleCache().get(Locale.GERMAN);
+        assertTrue(loader.getConsistencyReport().isEmpty());
+    }
+
+    @Test
+    void strictRejectsInconsistentBundles() throws IOException {
+        BaseLoader loader = loader(PlaceholderCheck.STRICT);
+
+        assertTrue(loader.getLocaleCache().load(Locale.GERMAN).isCompletedExceptionally());
+        assertEquals("Hello {player}", loader.forLocale(Locale.GERMAN).to("greeting"));
+        assertFalse(loader.getLocaleCache().isLoaded(Locale.GERMAN));
+
+        Files.writeString(dir.resolve("en.properties"), "greeting={0, plural, one {# player}}\n");
+        assertThrows(IOException.class, loader::update);
+        assertEquals("Hello {player}", loader.to("greeting"));
+    }
+}
@@ -0,0 +1,120 @@
+package one.tranic.t.i18n;
+
+import one.tranic.t.i18n.loader.BaseI18n;
+import one.tranic.t.i18n.loader.Source;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FootprintTest {
+    private static final Map<String, String> VALUES = Map.of(
+            "latin", "Hello, world",
+            "accented", "Café au lait",
+            "cyrillic", "Привет, мир",
+            "cjk", "你好，世界",
+            "empty", "",
+            "lore", "First\nSecond");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void decodedBytesMatchAcrossModes() throws IOException {
+        Bundle heap = Bundle.of(VALUES, Locale.ENGLISH, StorageMode.HEAP);
+        for (StorageMode mode : StorageMode.values()) {
+            Bundle bundle = Bundle.of(VALUES, Locale.ENGLISH, mode);
+            for (String key : VALUES.keySet()) {
+                assertEquals(Bundle.stringBytes(VALUES.get(key)), bundle.decodedBytes(key), mode + " " + key);
+                assertEquals(heap.decodedBytes(key), bundle.decodedBytes(key), mode + " " + key);
+            }
+            assertEquals(0, bundle.decodedBytes("missing"));
+        }
+    }
+
+    @Test
+    void localeUsageMatchesTheBundle() throws IOException {
+        for (StorageMode mode : StorageMode.values()) {
+            Bundle bundle = Bundle.of(VALUES, Locale.ENGLISH, mode);
+            Footprint footprint = bundle.footprint(Locale.ENGLISH);
+            Footprint.Usage usage = footprint.getLocales().get(Locale.ENGLISH);
+
+            assertEquals(VALUES.size(), usage.entries(), mode.name());
+            assertEquals(bundle.offHeapBytes(), usage.offHeapBytes(), mode.name());
+            assertEquals(usage, footprint.getTotal(), mode.name());
+            assertEquals(mode == StorageMode.HEAP, usage.offHeapBytes() == 0, mode.name());
+            assertTrue(usage.heapBytes() > 0, mode.name());
+            assertTrue(footprint.getSources().isEmpty(), mode.name());
+        }
+    }
+
+    @Test
+    void sourcesCountTheirOwnEntries() throws IOException {
+        Path defaults = Files.createDirectories(dir.resolve("defaults"));
+        Files.writeString(defaults.resolve("en.properties"), "a=1\nb=2\nc=3\n");
+        Path overrides = Files.createDirectories(dir.resolve("overrides"));
+        Files.writeString(overrides.resolve("en.properties"), "c=three\nd=4\n");
+        Source first = Source.of(defaults, BaseI18n.PROPERTIES);
+        Source second = Source.of(overrides, BaseI18n.PROPERTIES);
+        BaseLoader loader = new BaseLoader(List.of(first, second), Locale.ENGLISH);
+        loader.update();
+
+        Footprint footprint = loader.getFootprint();
+        assertEquals(2, footprint.getSources().get(first.toString()).entries());
+        assertEquals(2, footprint.getSources().get(second.toString()).entries());
+        Footprint.Usage total = footprint.getTotal();
+        assertEquals(4, total.entries());
+        assertTrue(total.heapBytes() > footprint.getSources().get(first.toString()).heapBytes()
+                + footprint.getSources().get(second.toString()).heapBytes());
+    }
+
+    @Test
+    void plusAddsUpUsages() throws IOException {
+        Footprint english = Bundle.of(VALUES, Locale.ENGLISH, StorageMode.HEAP).footprint(Locale.ENGLISH);
+        Footprint german = Bundle.of(Map.of("a", "b"), Locale.GERMAN, StorageMode.DIRECT).footprint(Locale.GERMAN);
+
+        Footprint sum = english.plus(german).plus(english);
+        assertEquals(List.of(Locale.ENGLISH, Locale.GERMAN), List.copyOf(sum.getLocales().keySet()));
+        assertEquals(VALUES.size() * 2, sum.getLocales().get(Locale.ENGLISH).entries());
+        assertEquals(english.heapBytes() * 2 + german.heapBytes(), sum.heapBytes());
+        assertEquals(german.offHeapBytes(), sum.offHeapBytes());
+        assertEquals(english.getLocales(), english.plus(Footprint.EMPTY).getLocales());
+
+        Footprint.Usage usage = new Footprint.Usage(1, 2, 3, 4, 5, 6, 7, 8);
+        assertEquals(new Footprint.Usage(2, 4, 6, 8, 10, 12, 14, 16), usage.plus(usage));
+        assertEquals(usage, usage.plus(Footprint.Usage.ZERO));
+        assertEquals(27, usage.heapBytes());
+    }
+
+    @Test
+    void cacheCoversEveryLoadedLocale() throws IOException {
+        Files.writeString(dir.resolve("en.properties"), "greeting=Hello\n");
+        Files.writeString(dir.resolve("ru.properties"), "greeting=Привет\n");
+        BaseLoader loader = new BaseLoader(dir, BaseI18n.PROPERTIES);
+        loader.setLanguage(Locale.ENGLISH);
+        loader.update();
+        LocaleCache cache = new LocaleCache(loader, Runnable::run, 0, 0);
+        cache.get(Locale.forLanguageTag("ru"));
+
+        Map<Locale, Footprint.Usage> locales = cache.getFootprint().getLocales();
+        assertEquals(List.of(Locale.ENGLISH, Locale.forLanguageTag("ru")), List.copyOf(locales.keySet()));
+        assertEquals(loader.getFootprint().heapBytes(), locales.get(Locale.ENGLISH).heapBytes());
+    }
+
+    @Test
+    void formatBytes() {
+        assertEquals("0 B", Footprint.formatBytes(0));
+        assertEquals("1023 B", Footprint.formatBytes(1023));
+        assertEquals("1.0 KiB", Footprint.formatBytes(1024));
+        assertEquals("1.5 KiB", Footprint.formatBytes(1536));
+        assertEquals("2.0 MiB", Footprint.formatBytes(2 * 1024 * 1024));
+    }
+}
@@ -0,0 +1,96 @@
+package one.tranic.t.i18n;
+
+import one.tranic.t.i18n.loader.BaseI18n;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ForLocaleTest {
+    private static final Locale RUSSIAN = Locale.forLanguageTag("ru");
+
+    @TempDir
+    Path dir;
+
+    private BaseLoader loader() throws IOException {
+        Files.writeString(dir.resolve("en.properties"),
+                "greeting=Hello\nfiles={0, plural, one {# file} other {# files}}\n");
+        Files.writeString(dir.resolve("ru.properties"),
+                "greeting=Привет\nfiles={0, plural, one {# файл} few {# файла} many {# файлов} other {# файла}}\n");
+        BaseLoader loader = new BaseLoader(dir, BaseI18n.PROPERTIES);
+        loader.setLanguage(Locale.ENGLISH);
+        loader.update();
+        loader.setLocaleCache(new LocaleCache(loader, Runnable::run, 0, 0));
+        return loader;
+    }
+
+    @Test
+    void currentLocaleSharesTheBundle() throws IOException {
+        BaseLoader loader = loader();
+        BaseLoader view = loader.forLocale(Locale.ENGLISH);
+
+        assertTrue(view.isView());
+        assertFalse(loader.isView());
+        assertSame(loader.getBundle(), view.getBundle());
+        assertEquals("Hello", view.to("greeting"));
+    }
+
+    @Test
+    void otherLocalesUseTheLocaleCache() throws IOException {
+        BaseLoader loader = loader();
+        BaseLoader view = loader.forLocale(RUSSIAN);
+
+        assertEquals("Привет", view.to("greeting"));
+        assertEquals("3 файла", view.toMessage("files", 3));
+        assertEquals("5 файлов", view.toMessage("files", 5));
+        assertTrue(loader.getLocaleCache().isLoaded(RUSSIAN));
+        assertSame(view.getBundle(), loader.forLocale(RUSSIAN).getBundle());
+        assertEquals("Hello", loader.to("greeting"));
+    }
+
+    @Test
+    void fallbackRendersWithTheRulesOfItsBundle() throws IOException {
+        BaseLoader view = loader().forLocale(Locale.FRENCH);
+
+        assertEquals("Hello", view.to("greeting"));
+        assertEquals("0 files", view.toMessage("files", 0));
+        assertEquals("1 file", view.toMessage("files", 1));
+    }
+
+    @Test
+    void viewsAreReadOnly() throws IOException {
+        BaseLoader loader = loader();
+        BaseLoader view = loader.forLocale(RUSSIAN);
+
+        assertThrows(UnsupportedOperationException.class, view::update);
+        assertThrows(UnsupportedOperationException.class, () -> view.setLanguage(Locale.GERMAN));
+        assertThrows(UnsupportedOperationException.class, () -> view.setStorageMode(StorageMode.DIRECT));
+        assertThrows(UnsupportedOperationException.class, () -> view.setLocaleCache(loader.getLocaleCache()));
+        assertEquals(Locale.ENGLISH, loader.getLanguage());
+    }
+
+    @Test
+    void viewsOfViewsResolveFromTheLoader() throws IOException {
+        BaseLoader loader = loader();
+        BaseLoader view = loader.forLocale(RUSSIAN).forLocale(Locale.ENGLISH);
+
+        assertSame(loader.getBundle(), view.getBundle());
+        assertSame(loader.getLocaleCache(), view.getLocaleCache());
+    }
+
+    @Test
+    void rejectsCachesOfOtherLoaders() throws IOException {
+        BaseLoader loader = loader();
+        BaseLoader other = new BaseLoader(dir, BaseI18n.PROPERTIES);
+        assertThrows(IllegalArgumentException.class, () -> loader.setLocaleCache(new LocaleCache(other)));
+    }
+}
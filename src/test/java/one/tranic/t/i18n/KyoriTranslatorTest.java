@@ -0,0 +1,77 @@
+package one.tranic.t.i18n;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import one.tranic.t.i18n.loader.BaseI18n;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class KyoriTranslatorTest {
+    @TempDir
+    Path dir;
+
+    private KyoriTranslator translator(Locale locale, String content) throws IOException {
+        Files.writeString(dir.resolve(locale + ".properties"), content);
+        BaseLoader loader = new BaseLoader(dir, BaseI18n.PROPERTIES);
+        loader.setLanguage(locale);
+        loader.update();
+
+        KyoriTranslator translator = new KyoriTranslator(Key.key("test", "messages"));
+        translator.register(loader);
+        return translator;
+    }
+
+    @Test
+    void neverProvidesMessageFormats() throws IOException {
+        KyoriTranslator translator = translator(Locale.ENGLISH, "greeting=Hello\n");
+        assertNull(translator.translate("greeting", Locale.ENGLISH));
+    }
+
+    @Test
+    void rendersValuesWithoutArguments() throws IOException {
+        KyoriTranslator translator = translator(Locale.ENGLISH, "greeting=Hello\n");
+        assertEquals(Component.text("Hello"), translator.translate(Component.translatable("greeting"), Locale.ENGLISH));
+        assertNull(translator.translate(Component.translatable("missing"), Locale.ENGLISH));
+        assertNull(translator.translate(Component.translatable("greeting"), Locale.FRENCH));
+    }
+
+    @Test
+    void insertsComponentArgumentsWithoutQuoting() throws IOException {
+        KyoriTranslator translator = translator(Locale.ENGLISH, "stop=Don't {0}!\n");
+        Component result = translator.translate(Component.translatable("stop", Component.text("stop")), Locale.ENGLISH);
+        assertEquals(Component.text("").children(List.of(Component.text("Don't "), Component.text("stop"), Component.text("!"))), result);
+    }
+
+    @Test
+    void selectsPluralFormsFromNumericArguments() throws IOException {
+        KyoriTranslator translator = translator(Locale.ENGLISH, "apples={0, plural, one {# apple} other {# apples}}\n");
+        assertEquals(Component.text("1 apple"), translator.translate(Component.translatable("apples", TranslationArgument.numeric(1)), Locale.ENGLISH));
+        assertEquals(Component.text("3 apples"), translator.translate(Component.translatable("apples", TranslationArgument.numeric(3)), Locale.ENGLISH));
+    }
+
+    @Test
+    void passesArgumentsToMiniMessageAsPlaceholders() throws IOException {
+        KyoriTranslator translator = translator(Locale.ENGLISH, "welcome=<red>Welcome {0}, don't leave</red>\n");
+        Component expected = MiniMessage.miniMessage().deserialize("<red>Welcome <name>, don't leave</red>",
+                Placeholder.component("name", Component.text("Alex")));
+        assertEquals(expected, translator.translate(Component.translatable("welcome", Component.text("Alex")), Locale.ENGLISH));
+    }
+
+    @Test
+    void regionsFallBackToTheirLanguage() throws IOException {
+        KyoriTranslator translator = translator(Locale.GERMAN, "greeting=Hallo\n");
+        assertEquals(Component.text("Hallo"), translator.translate(Component.translatable("greeting"), Locale.GERMANY));
+    }
+}
@@ -0,0 +1,84 @@
+package one.tranic.t.i18n;
+
+import one.tranic.t.i18n.loader.BaseI18n;
+import one.tranic.t.i18n.loader.Source;
+import one.tranic.t.i18n.loader.YmlLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LayeredLoaderTest {
+    @TempDir
+    Path dir;
+
+    private Path layer(String name, String file, String content) throws IOException {
+        Path path = Files.createDirectories(dir.resolve(name));
+        Files.writeString(path.resolve(file), content);
+        return path;
+    }
+
+    @Test
+    void laterLayersOverrideEarlierOnes() throws IOException {
+        Source defaults = Source.of(layer("defaults", "en.yml", "title: Default\nfooter: Footer\n"), new YmlLoader());
+        Source overrides = Source.of(layer("overrides", "en.properties", "title=Custom\nextra=Extra\n"), BaseI18n.PROPERTIES);
+        BaseLoader loader = new BaseLoader(List.of(defaults, overrides), Locale.ENGLISH);
+        loader.update();
+
+        assertEquals(Map.of("title", "Custom", "footer", "Footer", "extra", "Extra"), loader.getBundle().asMap());
+        assertSame(overrides, loader.getOrigin("title"));
+        assertSame(defaults, loader.getOrigin("footer"));
+        assertSame(overrides, loader.getOrigin("extra"));
+        assertNull(loader.getOrigin("missing"));
+        assertEquals(List.of(defaults, overrides), loader.getLayers());
+    }
+
+    @Test
+    void optionalLayersMayBeMissing() throws IOException {
+        Source defaults = Source.of(layer("defaults", "en.yml", "title: Default\n"), new YmlLoader());
+        Source missing = Source.of(dir.resolve("missing"), BaseI18n.PROPERTIES);
+
+        BaseLoader optional = new BaseLoader(List.of(defaults, missing.optional()), Locale.ENGLISH);
+        optional.update();
+        assertEquals("Default", optional.get("title"));
+
+        BaseLoader required = new BaseLoader(List.of(defaults, missing), Locale.ENGLISH);
+        assertThrows(FileNotFoundException.class, required::update);
+    }
+
+    @Test
+    void repeatedSourcesKeepTheirPosition() throws IOException {
+        Source first = Source.of(layer("first", "en.properties", "a=1\nb=1\n"), BaseI18n.PROPERTIES);
+        Source second = Source.of(layer("second", "en.properties", "b=2\nc=2\n"), BaseI18n.PROPERTIES);
+        BaseLoader loader = new BaseLoader(List.of(first, second, first), Locale.ENGLISH);
+        loader.update();
+
+        assertEquals("1", loader.get("b"));
+        assertSame(first, loader.getOrigin("b"));
+        assertSame(second, loader.getOrigin("c"));
+
+        Map<String, Footprint.Usage> sources = loader.getFootprint().getSources();
+        assertEquals(2, sources.get(first.toString()).entries());
+        assertEquals(1, sources.get(second.toString()).entries());
+    }
+
+    @Test
+    void everyKeyNeedsALayer() {
+        List<Source> sources = List.of(Source.of(dir, BaseI18n.PROPERTIES), Source.of(dir, new YmlLoader()));
+        assertThrows(IllegalArgumentException.class,
+                () -> Bundle.of(Map.of("a", "1", "b", "2"), sources, Map.of("a", 1), Locale.ENGLISH, StorageMode.HEAP));
+        assertThrows(IllegalArgumentException.class,
+                () -> Bundle.of(Map.of("a", "1"), sources, Map.of("a", 2), Locale.ENGLISH, StorageMode.HEAP));
+    }
+}
@@ -0,0 +1,76 @@
+package one.tranic.t.i18n;
+
+import one.tranic.t.i18n.loader.BaseI18n;
+import one.tranic.t.i18n.loader.GsonLoader;
+import one.tranic.t.i18n.loader.I18n;
+import one.tranic.t.i18n.loader.YmlLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ListValueTest {
+    @TempDir
+    Path dir;
+
+    private BaseLoader load(String file, String content, I18n adapter, StorageMode mode) throws IOException {
+        Files.writeString(dir.resolve(file), content);
+        BaseLoader loader = new BaseLoader(dir, adapter);
+        loader.setStorageMode(mode);
+        loader.setLanguage(Locale.ENGLISH);
+        loader.update();
+        return loader;
+    }
+
+    @Test
+    void yamlListsInEveryStorageMode() throws IOException {
+        for (StorageMode mode : StorageMode.values()) {
+            BaseLoader loader = load("en.yml", "lore:\n  - First\n  - Second\nempty: []\nsingle: [Only]\nname: Steve\n", new YmlLoader(), mode);
+            assertEquals(List.of("First", "Second"), loader.toLines("lore"), mode.name());
+            assertEquals(List.of(), loader.toLines("empty"), mode.name());
+            assertEquals(List.of("Only"), loader.toLines("single"), mode.name());
+            assertEquals(List.of("Steve"), loader.toLines("name"), mode.name());
+            assertEquals(List.of("missing"), loader.toLines("missing"), mode.name());
+        }
+    }
+
+    @Test
+    void jsonArrays() throws IOException {
+        BaseLoader loader = load("en.json", "{\"lore\": [\"First\", \"Second\"], \"empty\": [], \"nested\": {\"list\": [1, 2]}}", new GsonLoader(), StorageMode.HEAP);
+        assertEquals(List.of("First", "Second"), loader.toLines("lore"));
+        assertEquals(List.of(), loader.toLines("empty"));
+        assertEquals(List.of("1", "2"), loader.toLines("nested.list"));
+    }
+
+    @Test
+    void repeatedXmlElements() throws IOException {
+        BaseLoader loader = load("en.xml", "<messages><item><lore>First</lore><lore>Second</lore><name>Sword</name></item></messages>", BaseI18n.XML, StorageMode.HEAP);
+        assertEquals(List.of("First", "Second"), loader.toLines("item.lore"));
+        assertEquals(List.of("Sword"), loader.toLines("item.name"));
+    }
+
+    @Test
+    void multilineValuesAreSplitOnce() throws IOException {
+        BaseLoader loader = load("en.properties", "motd=Welcome\\nto the server\n", BaseI18n.PROPERTIES, StorageMode.HEAP);
+        List<String> lines = loader.toLines("motd");
+        assertEquals(List.of("Welcome", "to the server"), lines);
+        assertSame(lines, loader.toLines("motd"));
+        assertNull(loader.getBundle().lines("missing"));
+    }
+
+    @Test
+    void linesAreFormattedIndependently() throws IOException {
+        BaseLoader loader = load("en.yml", "stats:\n  - 'Kills: %1$d'\n  - 'Deaths: %2$d'\nbrace:\n  - 'Hello {}'\n  - 'Bye {}'\nempty: []\n", new YmlLoader(), StorageMode.HEAP);
+        assertEquals(List.of("Kills: 3", "Deaths: 1"), loader.toLines("stats", 3, 1));
+        assertEquals(List.of("Hello Alex", "Bye Steve"), loader.toLinesBrace("brace", "Alex", "Steve"));
+        assertEquals(List.of(), loader.toLines("empty", 1));
+    }
+}
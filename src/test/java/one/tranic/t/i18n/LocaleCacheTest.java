@@ -0,0 +1,132 @@
+package one.tranic.t.i18n;
+
+import one.tranic.t.i18n.loader.BaseI18n;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocaleCacheTest {
+    @TempDir
+    Path dir;
+
+    private BaseLoader loader(String... locales) throws IOException {
+        Files.writeString(dir.resolve("en.properties"), "greeting=Hello\n");
+        for (String locale : locales) {
+            Files.writeString(dir.resolve(locale + ".properties"), "greeting=" + locale + "\n");
+        }
+        BaseLoader loader = new BaseLoader(dir, BaseI18n.PROPERTIES);
+        loader.setLanguage(Locale.ENGLISH);
+        loader.update();
+        return loader;
+    }
+
+    @Test
+    void servesLoadedLocales() throws IOException {
+        BaseLoader loader = loader("de", "fr");
+        LocaleCache cache = new LocaleCache(loader, Runnable::run, 0, 0);
+
+        assertSame(loader.getBundle(), cache.get(Locale.ENGLISH));
+        assertEquals("de", cache.get(Locale.GERMAN).get("greeting"));
+        assertTrue(cache.isLoaded(Locale.GERMAN));
+        assertEquals("fr", cache.load(Locale.FRENCH).join().get("greeting"));
+    }
+
+    @Test
+    void regionsFallBackToTheirLanguage() throws IOException {
+        BaseLoader loader = loader("de", "de_CH");
+        LocaleCache cache = new LocaleCache(loader, Runnable::run, 0, 0);
+
+        assertEquals("de", cache.get(Locale.forLanguageTag("de-AT")).get("greeting"));
+        assertEquals("de_CH", cache.get(Locale.forLanguageTag("de-CH")).get("greeting"));
+        assertEquals("Hello", cache.get(Locale.forLanguageTag("pt-BR")).get("greeting"));
+        assertFalse(cache.isLoaded(Locale.forLanguageTag("de-AT")));
+    }
+
+    @Test
+    void missingLocalesAreNotRetried() throws IOException {
+        BaseLoader loader = loader();
+        LocaleCache cache = new LocaleCache(loader, Runnable::run, 0, 0);
+
+        CompletableFuture<Bundle> missing = cache.load(Locale.ITALIAN);
+        assertTrue(missing.isCompletedExceptionally());
+        Files.writeString(dir.resolve("it.properties"), "greeting=Ciao\n");
+        assertSame(missing, cache.load(Locale.ITALIAN));
+        assertEquals("Hello", cache.get(Locale.ITALIAN).get("greeting"));
+
+        loader.update();
+        assertEquals("Ciao", cache.get(Locale.ITALIAN).get("greeting"));
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedLocale() throws IOException {
+        BaseLoader loader = loader("de", "fr", "es");
+        LocaleCache cache = new LocaleCache(loader, Runnable::run, 2, 0);
+
+        cache.get(Locale.GERMAN);
+        cache.get(Locale.FRENCH);
+        cache.get(Locale.GERMAN);
+        cache.get(Locale.forLanguageTag("es"));
+        assertEquals(Set.of(Locale.GERMAN, Locale.forLanguageTag("es")), cache.getLocales());
+    }
+
+    @Test
+    void missingLocalesDoNotCountTowardsTheBudget() throws IOException {
+        BaseLoader loader = loader("de");
+        LocaleCache cache = new LocaleCache(loader, Runnable::run, 1, 0);
+
+        cache.get(Locale.GERMAN);
+        cache.get(Locale.ITALIAN);
+        cache.get(Locale.JAPANESE);
+        assertTrue(cache.isLoaded(Locale.GERMAN));
+        assertEquals(Set.of(Locale.GERMAN, Locale.ITALIAN, Locale.JAPANESE), cache.getLocales());
+    }
+
+    @Test
+    void evictsOverTheByteBudget() throws IOException {
+        BaseLoader loader = loader("de", "fr");
+        LocaleCache probe = new LocaleCache(loader, Runnable::run, 0, 0);
+        Bundle german = probe.get(Locale.GERMAN);
+        long bytes = german.heapBytes() + german.offHeapBytes();
+
+        LocaleCache cache = new LocaleCache(loader, Runnable::run, 0, bytes + bytes / 2);
+        cache.get(Locale.GERMAN);
+        cache.get(Locale.FRENCH);
+        assertEquals(Set.of(Locale.FRENCH), cache.getLocales());
+    }
+
+    @Test
+    void evictsIdleLocales() throws IOException {
+        BaseLoader loader = loader("de");
+        LocaleCache cache = new LocaleCache(loader, Runnable::run, 0, 0);
+        cache.get(Locale.GERMAN);
+
+        cache.evictIdle(Duration.ofHours(1));
+        assertEquals(Set.of(Locale.GERMAN), cache.getLocales());
+        cache.evictIdle(Duration.ZERO);
+        assertEquals(Set.of(), cache.getLocales());
+    }
+
+    @Test
+    void reloadsAfterTheLoaderIsUpdated() throws IOException {
+        BaseLoader loader = loader("de");
+        LocaleCache cache = new LocaleCache(loader, Runnable::run, 0, 0);
+        assertEquals("de", cache.get(Locale.GERMAN).get("greeting"));
+
+        Files.writeString(dir.resolve("de.properties"), "greeting=Hallo\n");
+        assertEquals("de", cache.get(Locale.GERMAN).get("greeting"));
+        loader.update();
+        assertEquals("Hallo", cache.get(Locale.GERMAN).get("greeting"));
+    }
+}
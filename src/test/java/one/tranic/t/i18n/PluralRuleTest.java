@@ -0,0 +1,114 @@
+package one.tranic.t.i18n;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PluralRuleTest {
+    private static void assertCategory(String expected, String language, String number) {
+        assertEquals(expected, PluralRule.of(Locale.forLanguageTag(language)).select(new BigDecimal(number)), language + " " + number);
+    }
+
+    @Test
+    void rulesByLanguage() {
+        assertSame(PluralRule.ONE_INTEGER, PluralRule.of(null));
+        assertSame(PluralRule.ONE_INTEGER, PluralRule.of(Locale.forLanguageTag("xx")));
+        assertSame(PluralRule.ONE_INTEGER, PluralRule.of(Locale.forLanguageTag("en-US")));
+        assertSame(PluralRule.NONE, PluralRule.of(Locale.forLanguageTag("zh-Hant-TW")));
+        assertSame(PluralRule.EAST_SLAVIC, PluralRule.of(Locale.forLanguageTag("uk")));
+        assertSame(PluralRule.HEBREW, PluralRule.of(Locale.forLanguageTag("he")));
+        assertSame(PluralRule.CZECH, PluralRule.of(Locale.forLanguageTag("sk")));
+    }
+
+    @Test
+    void english() {
+        assertCategory("one", "en", "1");
+        assertCategory("other", "en", "0");
+        assertCategory("other", "en", "2");
+        assertCategory("other", "en", "1.0");
+        assertCategory("one", "en", "-1");
+    }
+
+    @Test
+    void spanish() {
+        assertCategory("one", "es", "1");
+        assertCategory("one", "es", "1.0");
+        assertCategory("other", "es", "1.5");
+    }
+
+    @Test
+    void french() {
+        assertCategory("one", "fr", "0");
+        assertCategory("one", "fr", "1");
+        assertCategory("one", "fr", "1.5");
+        assertCategory("other", "fr", "2");
+    }
+
+    @Test
+    void russian() {
+        assertCategory("one", "ru", "1");
+        assertCategory("one", "ru", "21");
+        assertCategory("many", "ru", "11");
+        assertCategory("few", "ru", "3");
+        assertCategory("few", "ru", "104");
+        assertCategory("many", "ru", "12");
+        assertCategory("many", "ru", "0");
+        assertCategory("many", "ru", "25");
+        assertCategory("other", "ru", "1.5");
+    }
+
+    @Test
+    void polish() {
+        assertCategory("one", "pl", "1");
+        assertCategory("many", "pl", "21");
+        assertCategory("few", "pl", "22");
+        assertCategory("many", "pl", "12");
+        assertCategory("many", "pl", "5");
+        assertCategory("other", "pl", "2.5");
+    }
+
+    @Test
+    void czech() {
+        assertCategory("one", "cs", "1");
+        assertCategory("few", "cs", "4");
+        assertCategory("other", "cs", "5");
+        assertCategory("other", "cs", "0");
+        assertCategory("many", "cs", "1.5");
+    }
+
+    @Test
+    void hebrew() {
+        assertCategory("one", "he", "1");
+        assertCategory("two", "iw", "2");
+        assertCategory("other", "he", "3");
+    }
+
+    @Test
+    void arabic() {
+        assertCategory("zero", "ar", "0");
+        assertCategory("one", "ar", "1");
+        assertCategory("two", "ar", "2");
+        assertCategory("few", "ar", "3");
+        assertCategory("few", "ar", "110");
+        assertCategory("many", "ar", "11");
+        assertCategory("many", "ar", "99");
+        assertCategory("other", "ar", "100");
+        assertCategory("other", "ar", "0.5");
+    }
+
+    @Test
+    void japanese() {
+        assertCategory("other", "ja", "1");
+        assertCategory("other", "ja", "0");
+    }
+
+    @Test
+    void largeNumbers() {
+        assertCategory("other", "en", "100000000000000000000000");
+        assertCategory("many", "ru", "100000000000000000000000");
+    }
+}
@@ -0,0 +1,133 @@
+package one.tranic.t.i18n;
+
+import one.tranic.t.i18n.loader.BaseI18n;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnapshotTest {
+    private static final Locale TRADITIONAL = Locale.forLanguageTag("zh-Hant-TW");
+    private static final Locale AUSTRIAN = Locale.forLanguageTag("de-AT-u-nu-latn");
+
+    @TempDir
+    Path dir;
+
+    private static Bundle bundle(Locale locale, String... entries) throws IOException {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            map.put(entries[i], entries[i + 1]);
+        }
+        return Bundle.of(map, locale, StorageMode.HEAP);
+    }
+
+    private static Snapshot snapshot(Bundle... bundles) {
+        Map<Locale, Bundle> map = new LinkedHashMap<>();
+        for (Bundle bundle : bundles) {
+            map.put(bundle.locale(), bundle);
+        }
+        return new Snapshot(map);
+    }
+
+    @Test
+    void roundTripKeepsLanguageTags() throws IOException {
+        Snapshot snapshot = snapshot(
+                bundle(Locale.ENGLISH, "greeting", "Hello", "empty", ""),
+                bundle(TRADITIONAL, "greeting", "你好"),
+                bundle(AUSTRIAN, "greeting", "Servus", "multi", "a\nb"));
+
+        Snapshot decoded = Snapshot.fromBytes(snapshot.toBytes());
+        assertEquals(snapshot, decoded);
+        assertEquals("你好", decoded.get(TRADITIONAL).get("greeting"));
+        assertEquals("Servus", decoded.get(AUSTRIAN).get("greeting"));
+        assertEquals(TRADITIONAL, decoded.get(TRADITIONAL).locale());
+    }
+
+    @Test
+    void decodesIntoEveryStorageMode() throws IOException {
+        Snapshot snapshot = snapshot(bundle(TRADITIONAL, "greeting", "你好", "other", "Привет"));
+        byte[] payload = snapshot.toBytes();
+        for (StorageMode mode : StorageMode.values()) {
+            Snapshot decoded = Snapshot.fromBytes(payload, null, mode);
+            assertEquals("你好", decoded.get(TRADITIONAL).get("greeting"), mode.name());
+            assertEquals("Привет", decoded.get(TRADITIONAL).get("other"), mode.name());
+        }
+    }
+
+    @Test
+    void appliesDeltas() throws IOException {
+        Snapshot base = snapshot(
+                bundle(Locale.ENGLISH, "a", "1", "b", "2", "c", "3"),
+                bundle(Locale.GERMAN, "a", "eins"),
+                bundle(Locale.FRENCH, "a", "un"));
+        Snapshot next = snapshot(
+                bundle(Locale.ENGLISH, "a", "1", "b", "two", "d", "4"),
+                bundle(Locale.GERMAN, "a", "eins"),
+                bundle(TRADITIONAL, "a", "一"));
+
+        byte[] delta = next.toDelta(base);
+        assertEquals(next, Snapshot.fromBytes(delta, base, StorageMode.HEAP));
+        assertNull(Snapshot.fromBytes(delta, base, StorageMode.HEAP).get(Locale.FRENCH));
+    }
+
+    @Test
+    void rejectsDeltasForAnotherBase() throws IOException {
+        Snapshot base = snapshot(bundle(Locale.ENGLISH, "a", "1"));
+        Snapshot next = snapshot(bundle(Locale.ENGLISH, "a", "2"), bundle(Locale.GERMAN, "a", "eins"));
+        byte[] delta = next.toDelta(base);
+
+        Snapshot changed = snapshot(bundle(Locale.ENGLISH, "a", "other"));
+        assertThrows(IOException.class, () -> Snapshot.fromBytes(delta, changed, StorageMode.HEAP));
+        Snapshot withGerman = snapshot(bundle(Locale.ENGLISH, "a", "1"), bundle(Locale.GERMAN, "a", "eins"));
+        assertThrows(IOException.class, () -> Snapshot.fromBytes(delta, withGerman, StorageMode.HEAP));
+        assertThrows(IOException.class, () -> Snapshot.fromBytes(delta));
+    }
+
+    @Test
+    void rejectsDamagedPayloads() throws IOException {
+        byte[] payload = snapshot(bundle(Locale.ENGLISH, "greeting", "Hello")).toBytes();
+
+        byte[] flipped = payload.clone();
+        flipped[flipped.length / 2] ^= 0x20;
+        assertThrows(IOException.class, () -> Snapshot.fromBytes(flipped));
+        assertThrows(IOException.class, () -> Snapshot.fromBytes(Arrays.copyOf(payload, payload.length - 1)));
+        assertThrows(IOException.class, () -> Snapshot.fromBytes(new byte[4]));
+
+        assertEquals(1, Snapshot.VERSION);
+        assertEquals(Snapshot.VERSION, payload[4]);
+    }
+
+    @Test
+    void encodingIsStable() throws IOException {
+        Snapshot snapshot = snapshot(bundle(Locale.ENGLISH, "a", "1", "b", "2"));
+        assertArrayEquals(snapshot.toBytes(), snapshot(bundle(Locale.ENGLISH, "a", "1", "b", "2")).toBytes());
+    }
+
+    @Test
+    void loaderInstallsItsLocale() throws IOException {
+        Files.writeString(dir.resolve("en.properties"), "greeting=Hello\n");
+        BaseLoader source = new BaseLoader(dir, BaseI18n.PROPERTIES);
+        source.setLanguage(Locale.ENGLISH);
+        source.update();
+
+        Snapshot received = Snapshot.fromBytes(source.snapshot().toBytes());
+        BaseLoader target = new BaseLoader(dir.resolve("missing"), BaseI18n.PROPERTIES);
+        target.setLanguage(Locale.ENGLISH);
+        target.update(received);
+        assertEquals("Hello", target.to("greeting"));
+
+        target.setLanguage(Locale.GERMAN);
+        assertThrows(IOException.class, () -> target.update(received));
+    }
+}
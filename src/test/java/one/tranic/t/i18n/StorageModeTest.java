@@ -0,0 +1,62 @@
+package one.tranic.t.i18n;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageModeTest {
+    private static final Map<String, String> LANGUAGE = Map.of(
+            "latin", "Hello world",
+            "accent", "Déjà vu",
+            "cjk", "你好世界",
+            "cyrillic", "Привет",
+            "emoji", "GG 🎉",
+            "lines", "First\nSecond",
+            "message", "{0, plural, one {# item} other {# items}}",
+            "empty", ""
+    );
+
+    @Test
+    void offHeapValuesDecodeToTheOriginalStrings() throws IOException {
+        for (StorageMode mode : new StorageMode[]{StorageMode.DIRECT, StorageMode.MAPPED}) {
+            Bundle bundle = Bundle.of(LANGUAGE, mode);
+            assertEquals(mode, bundle.storageMode());
+            for (Map.Entry<String, String> entry : LANGUAGE.entrySet()) {
+                assertEquals(entry.getValue(), bundle.get(entry.getKey()), mode + " " + entry.getKey());
+            }
+            assertEquals(List.of("First", "Second"), bundle.lines("lines"));
+            assertEquals(List.of(), bundle.lines("empty"));
+            assertEquals("3 items", bundle.template("message").format(java.util.Locale.ENGLISH, new Object[]{3}, null));
+        }
+    }
+
+    @Test
+    void offHeapBytesAreTheUtf8Length() throws IOException {
+        long utf8 = 0;
+        for (String value : LANGUAGE.values()) {
+            utf8 += value.getBytes(StandardCharsets.UTF_8).length;
+        }
+        assertEquals(0, Bundle.of(LANGUAGE, StorageMode.HEAP).offHeapBytes());
+        assertEquals(utf8, Bundle.of(LANGUAGE, StorageMode.DIRECT).offHeapBytes());
+        assertEquals(utf8, Bundle.of(LANGUAGE, StorageMode.MAPPED).offHeapBytes());
+    }
+
+    @Test
+    void largeBundlesKeepLessOnHeap() throws IOException {
+        Map<String, String> language = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            language.put("key." + i, "A fairly long translation value number " + i + " with some more text");
+        }
+        Bundle heap = Bundle.of(language, StorageMode.HEAP);
+        Bundle direct = Bundle.of(language, StorageMode.DIRECT);
+        assertTrue(direct.heapBytes() < heap.heapBytes(), direct.heapBytes() + " >= " + heap.heapBytes());
+        assertEquals(heap, direct);
+    }
+}
@@ -0,0 +1,128 @@
+package one.tranic.t.i18n;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TemplateTest {
+    private static final String FILES = "{0, plural, =0 {no files} one {# file} few {# files (few)} many {# files (many)} other {# files}}";
+    private static final Date DATE = new Date(1_700_000_000_000L);
+
+    private static String format(String pattern, Locale locale, Object... args) {
+        Template template = Template.compile(pattern);
+        assertNull(template.error(), pattern);
+        return template.format(locale, args, null);
+    }
+
+    @Test
+    void arguments() {
+        assertEquals("Steve has 5", format("{0} has {1}", Locale.ENGLISH, "Steve", 5));
+        assertEquals("a b", format("{} {}", Locale.ENGLISH, "a", "b"));
+        assertEquals("b a", format("{1} {0}", Locale.ENGLISH, "a", "b"));
+        assertEquals("Alex", Template.compile("{player}").format(Locale.ENGLISH, null,
+                new BaseLoader.SimpleComponent[]{new BaseLoader.SimpleComponent("player", "Alex")}));
+        assertEquals("1.5", format("{0}", Locale.ENGLISH, 1.5));
+    }
+
+    @Test
+    void missingArgumentsRenderAsWritten() {
+        assertEquals("Hello {0} and {name}", format("Hello {0} and {name}", Locale.ENGLISH));
+        assertEquals("a {1}", format("{0} {1}", Locale.ENGLISH, "a"));
+        assertEquals("{0, plural, one {# file} other {# files}}", format("{0, plural, one {# file} other {# files}}", Locale.ENGLISH));
+    }
+
+    @Test
+    void literalBracesAndQuotes() {
+        assertEquals("Smile :}", format("Smile :}", Locale.ENGLISH));
+        assertEquals("{ not an argument", format("{ not an argument", Locale.ENGLISH));
+        assertEquals("Don't stop", format("Don't {0}", Locale.ENGLISH, "stop"));
+        assertEquals("Use {0} here", format("Use '{0}' here", Locale.ENGLISH, "x"));
+        assertEquals("It's 'quoted'", format("It''s 'quoted'", Locale.ENGLISH));
+    }
+
+    @Test
+    void pluralPerLocale() {
+        assertEquals("1 file", format(FILES, Locale.ENGLISH, 1));
+        assertEquals("2 files", format(FILES, Locale.ENGLISH, 2));
+        assertEquals("no files", format(FILES, Locale.ENGLISH, 0));
+        assertEquals("1 file", format(FILES, Locale.FRENCH, 1));
+        assertEquals("3 files (few)", format(FILES, Locale.forLanguageTag("ru"), 3));
+        assertEquals("5 files (many)", format(FILES, Locale.forLanguageTag("ru"), 5));
+        assertEquals("22 files (few)", format(FILES, Locale.forLanguageTag("pl"), 22));
+        assertEquals("4 files (few)", format(FILES, Locale.forLanguageTag("cs"), 4));
+        assertEquals("1 files", format(FILES, Locale.JAPANESE, 1));
+        assertEquals("1,000 files", format(FILES, Locale.ENGLISH, 1000));
+        assertEquals("1.000 files", format(FILES, Locale.GERMAN, 1000));
+    }
+
+    @Test
+    void pluralKeepsFractionDigits() {
+        assertEquals("1.50 files", format(FILES, Locale.ENGLISH, new BigDecimal("1.50")));
+        assertEquals("1,50 files", format(FILES, Locale.GERMAN, new BigDecimal("1.50")));
+        assertEquals("1.0 files", format(FILES, Locale.ENGLISH, new BigDecimal("1.0")));
+        assertEquals("1.5 files", format(FILES, Locale.ENGLISH, 1.5));
+    }
+
+    @Test
+    void pluralOffset() {
+        String pattern = "{0, plural, offset:1 =0 {nobody} =1 {only {1}} one {{1} and # other} other {{1} and # others}}";
+        assertEquals("nobody", format(pattern, Locale.ENGLISH, 0, "Alex"));
+        assertEquals("only Alex", format(pattern, Locale.ENGLISH, 1, "Alex"));
+        assertEquals("Alex and 1 other", format(pattern, Locale.ENGLISH, 2, "Alex"));
+        assertEquals("Alex and 4 others", format(pattern, Locale.ENGLISH, 5, "Alex"));
+    }
+
+    @Test
+    void select() {
+        String pattern = "{0, select, male {He} female {She} other {They}} joined";
+        assertEquals("She joined", format(pattern, Locale.ENGLISH, "female"));
+        assertEquals("They joined", format(pattern, Locale.ENGLISH, "unknown"));
+        assertEquals("He said '{'", format("{0, select, male {He} other {They}} said '''{'''", Locale.ENGLISH, "male"));
+    }
+
+    @Test
+    void typedNumbers() {
+        assertEquals("1,234.5", format("{0, number}", Locale.ENGLISH, 1234.5));
+        assertEquals("1.234,5", format("{0, number}", Locale.GERMANY, 1234.5));
+        assertEquals("1,235", format("{0, number, integer}", Locale.ENGLISH, 1234.6));
+        assertEquals("25%", format("{0, number, percent}", Locale.ENGLISH, 0.25));
+        assertEquals("$1.50", format("{0, number, currency}", Locale.US, 1.5));
+        assertEquals("0001.5", format("{0, number, 0000.0}", Locale.ENGLISH, 1.5));
+        assertEquals("x", format("{0, number}", Locale.ENGLISH, "x"));
+    }
+
+    @Test
+    void typedDates() {
+        assertEquals("2023-11-14", format("{0, date, yyyy-MM-dd}", Locale.ENGLISH, DATE));
+        assertEquals("22:13", format("{0, time, HH:mm}", Locale.ENGLISH, DATE));
+        assertEquals("November 14, 2023", format("{0, date, long}", Locale.US, DATE));
+        assertEquals("14. November 2023", format("{0, date, long}", Locale.GERMANY, DATE));
+        assertEquals("2023-11-14", format("{0, date, yyyy-MM-dd}", Locale.ENGLISH, DATE.toInstant()));
+    }
+
+    @Test
+    void unsupportedTypesRenderAsWritten() {
+        String pattern = "{0, choice, 0#none|1#one} left";
+        Template template = Template.compile(pattern);
+        assertNotNull(template.error());
+        assertEquals(pattern, template.format(Locale.ENGLISH, new Object[]{1}, null));
+
+        assertNotNull(Template.compile("{0, number, {bad}").error());
+        assertNotNull(Template.compile("{0, plural, one {# file}}").error());
+        assertNotNull(Template.compile("{0, date, nonsense''q'}").error());
+    }
+
+    @Test
+    void signature() {
+        assertEquals("", Template.compile("Plain text, 50% off").signature());
+        assertEquals("{}x2 {name} %s %1$d", Template.compile("{} {} {name} %s %1$d").signature());
+        assertEquals("{count}", Template.compile("{count, plural, one {# item} other {# items}}").signature());
+        assertEquals("", Template.compile("100%% done%n").signature());
+    }
+}
@@ -0,0 +1,107 @@
+package one.tranic.t.i18n.loader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MultiFormatLoaderTest {
+    @TempDir
+    Path dir;
+
+    private static String sniff(String head) {
+        return MultiFormatLoader.sniff(head.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void dispatchesByExtension() throws IOException {
+        Files.writeString(dir.resolve("en.yml"), "greeting: Hello\n");
+        Files.writeString(dir.resolve("de.json"), "{\"greeting\": \"Hallo\"}");
+        Files.writeString(dir.resolve("fr.properties"), "greeting=Bonjour\n");
+        Files.writeString(dir.resolve("it.xml"), "<messages><message id=\"greeting\">Ciao</message></messages>");
+        Files.writeString(dir.resolve("es.yaml"), "greeting: Hola\n");
+        MultiFormatLoader adapter = new MultiFormatLoader(new YmlLoader(), new GsonLoader(), BaseI18n.PROPERTIES, BaseI18n.XML);
+
+        assertEquals("Hello", adapter.load(dir, Locale.ENGLISH).get("greeting"));
+        assertEquals("Hallo", adapter.load(dir, Locale.GERMAN).get("greeting"));
+        assertEquals("Bonjour", adapter.load(dir, Locale.FRENCH).get("greeting"));
+        assertEquals("Ciao", adapter.load(dir, Locale.ITALIAN).get("greeting"));
+        assertEquals("Hola", adapter.load(dir, Locale.forLanguageTag("es")).get("greeting"));
+        assertThrows(FileNotFoundException.class, () -> adapter.load(dir, Locale.JAPANESE));
+    }
+
+    @Test
+    void firstRegisteredAdapterWins() throws IOException {
+        Files.writeString(dir.resolve("en.yml"), "greeting: From YAML\n");
+        Files.writeString(dir.resolve("en.yaml"), "greeting: From alternative YAML\n");
+        Files.writeString(dir.resolve("en.json"), "{\"greeting\": \"From JSON\"}");
+
+        assertEquals("From YAML", new MultiFormatLoader(new YmlLoader(), new GsonLoader()).load(dir, Locale.ENGLISH).get("greeting"));
+        assertEquals("From JSON", new MultiFormatLoader(new GsonLoader(), new YmlLoader()).load(dir, Locale.ENGLISH).get("greeting"));
+        Files.delete(dir.resolve("en.yml"));
+        assertEquals("From alternative YAML", new MultiFormatLoader(new YmlLoader(), new GsonLoader()).load(dir, Locale.ENGLISH).get("greeting"));
+    }
+
+    @Test
+    void picksUpFilesAddedAfterIndexing() throws IOException {
+        Files.writeString(dir.resolve("en.properties"), "greeting=Hello\n");
+        MultiFormatLoader adapter = new MultiFormatLoader(new GsonLoader(), BaseI18n.PROPERTIES);
+        assertEquals("Hello", adapter.load(dir, Locale.ENGLISH).get("greeting"));
+
+        Files.writeString(dir.resolve("de.json"), "{\"greeting\": \"Hallo\"}");
+        assertEquals("Hallo", adapter.load(dir, Locale.GERMAN).get("greeting"));
+
+        Files.writeString(dir.resolve("en.json"), "{\"greeting\": \"Hello from JSON\"}");
+        adapter.invalidate();
+        assertEquals("Hello from JSON", adapter.load(dir, Locale.ENGLISH).get("greeting"));
+    }
+
+    @Test
+    void sniffsStreamsAndUnknownExtensions() throws IOException {
+        MultiFormatLoader adapter = new MultiFormatLoader(new YmlLoader(), new GsonLoader(), BaseI18n.PROPERTIES);
+        assertEquals("Hallo", adapter.load(new ByteArrayInputStream("{\"greeting\": \"Hallo\"}".getBytes(StandardCharsets.UTF_8))).get("greeting"));
+        assertEquals("Hello", adapter.load(new ByteArrayInputStream("greeting: Hello\n".getBytes(StandardCharsets.UTF_8))).get("greeting"));
+
+        Path file = dir.resolve("messages.lang");
+        Files.writeString(file, "# comment\ngreeting = Bonjour\n");
+        assertEquals("Bonjour", adapter.load(file.toFile()).get("greeting"));
+    }
+
+    @Test
+    void sniff() {
+        assertEquals(".json", sniff("  {\"a\": 1}"));
+        assertEquals(".json", sniff("\uFEFF[1, 2]"));
+        assertEquals(".xml", sniff("<?xml version=\"1.0\"?><messages/>"));
+        assertEquals(".yml", sniff("# comment\na: b\n"));
+        assertEquals(".yml", sniff("---\na: b\n"));
+        assertEquals(".yml", sniff("- item\n"));
+        assertEquals(".yml", sniff("section:\n  key: value\n"));
+        assertEquals(".yml", sniff("key : value\n"));
+        assertEquals(".properties", sniff("a=b\n"));
+        assertEquals(".properties", sniff("a:b\n"));
+        assertEquals(".properties", sniff("url=http://example.com\n"));
+        assertEquals(".properties", sniff("a\\:b = c\n"));
+        assertEquals(".properties", sniff("! comment\na: b\n"));
+        assertEquals(".properties", sniff("key value\n"));
+        assertNull(sniff("  \n# only a comment\n"));
+        assertNull(sniff(""));
+    }
+
+    @Test
+    void extension() {
+        assertEquals(".yml", MultiFormatLoader.extension("en.YAML"));
+        assertEquals(".json", MultiFormatLoader.extension("en.json"));
+        assertNull(MultiFormatLoader.extension("en.lang"));
+        assertNull(MultiFormatLoader.extension("en"));
+    }
+}
@@ -0,0 +1,83 @@
+package one.tranic.t.i18n.loader;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PropertiesParserTest {
+    private static Map<String, String> parse(String input) throws IOException {
+        Map<String, String> result = new HashMap<>();
+        PropertiesParser.parse(new StringReader(input), result);
+        return result;
+    }
+
+    private static Map<String, String> reference(String input) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new StringReader(input));
+        Map<String, String> result = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            result.put(name, properties.getProperty(name));
+        }
+        return result;
+    }
+
+    private static void assertSameAsProperties(String input) throws IOException {
+        assertEquals(reference(input), parse(input), input);
+    }
+
+    @Test
+    void separators() throws IOException {
+        assertSameAsProperties("a=1\nb:2\nc 3\nd\t4\ne = 5\nf : 6\ng  =  7\nh =: 8\ni\n");
+        assertSameAsProperties("   leading=indented\n\tkey\tvalue with spaces  \n");
+        assertSameAsProperties("empty=\nonly.key\ncolon:\n");
+    }
+
+    @Test
+    void comments() throws IOException {
+        assertSameAsProperties("# comment\n! also a comment\na=1 # not a comment\n  # indented comment\nb=!2\n");
+        assertSameAsProperties("# comment ending with a backslash \\\na=1\n");
+        assertSameAsProperties("a=1\n# last line without newline");
+    }
+
+    @Test
+    void continuationLines() throws IOException {
+        assertSameAsProperties("a=first \\\n    second \\\n\tthird\nb=2\n");
+        assertSameAsProperties("a=even\\\\\nb=odd\\\\\\\n  continued\n");
+        assertSameAsProperties("a=crlf \\\r\n  joined\r\nb=2\r\nc=cr\\\r  joined\r");
+        assertSameAsProperties("a=trailing backslash\\");
+        assertSameAsProperties("a=\\\n\nb=2\n");
+    }
+
+    @Test
+    void escapes() throws IOException {
+        assertSameAsProperties("tab=a\\tb\nnl=a\\nb\ncr=a\\rb\nff=a\\fb\nother=\\q\\\"\\'\n");
+        assertSameAsProperties("unicode=\\u00e9\\u4E2D\\u0041\n\\u006b\\u0065\\u0079=value\n");
+        assertSameAsProperties("key\\=with\\:separators\\ and\\ spaces=value\n");
+        assertSameAsProperties("value=\\ leading space kept\n");
+        assertSameAsProperties("raw=é中文 Привет\n");
+    }
+
+    @Test
+    void linesAcrossBufferBoundaries() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            sb.append("key.").append(i).append(" = value ").append(i);
+            sb.append(i % 3 == 0 ? "\r\n" : i % 3 == 1 ? "\\\r\n  more\n" : "\r");
+        }
+        sb.append("long=").append("x".repeat(20000)).append('\n');
+        assertSameAsProperties(sb.toString());
+    }
+
+    @Test
+    void malformedUnicodeEscape() {
+        assertThrows(IOException.class, () -> parse("a=\\u00g1\n"));
+        assertThrows(IOException.class, () -> parse("a=\\u12"));
+    }
+}
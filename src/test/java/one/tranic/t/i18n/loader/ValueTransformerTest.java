@@ -0,0 +1,75 @@
+package one.tranic.t.i18n.loader;
+
+import one.tranic.t.i18n.BaseLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ValueTransformerTest {
+    @TempDir
+    Path dir;
+
+    private BaseLoader load(String file, String content, I18n adapter) throws IOException {
+        Files.writeString(dir.resolve(file), content);
+        BaseLoader loader = new BaseLoader(dir, adapter);
+        loader.setLanguage(Locale.ENGLISH);
+        loader.update();
+        return loader;
+    }
+
+    @Test
+    void builtInTransformers() {
+        assertEquals("a\nb", BaseTransformer.TRIM.transform("  a \n\tb "));
+        assertEquals("line\nnext\ttab\\n", BaseTransformer.UNESCAPE.transform("line\\nnext\\ttab\\\\n"));
+        assertEquals("\u00A7ared \u00A7lbold & more", BaseTransformer.LEGACY_COLOR.transform("&ared &Lbold & more"));
+        assertEquals("\u00A7x\u00A7f\u00A7f\u00A70\u00A70\u00A70\u00A70 text &#zz", BaseTransformer.HEX_COLOR.transform("&#FF0000 text &#zz"));
+        assertEquals("\u00E9", BaseTransformer.NORMALIZE.transform("e\u0301"));
+    }
+
+    @Test
+    void unescapeIsNotIdempotent() {
+        String once = BaseTransformer.UNESCAPE.transform("a\\\\nb");
+        assertEquals("a\\nb", once);
+        assertEquals("a\nb", BaseTransformer.UNESCAPE.transform(once));
+    }
+
+    @Test
+    void chainRunsInOrderOnEveryValue() throws IOException {
+        I18n adapter = BaseI18n.PROPERTIES.withTransformers(value -> value + "a", value -> value + "b");
+        BaseLoader loader = load("en.properties", "one=1\ntwo=2\n", adapter);
+        assertEquals("1ab", loader.get("one"));
+        assertEquals("2ab", loader.get("two"));
+    }
+
+    @Test
+    void repeatedIdempotentTransformersAreKept() throws IOException {
+        ValueTransformer exclaim = value -> value + "!";
+        I18n adapter = BaseI18n.PROPERTIES.withTransformers(exclaim).withTransformers(exclaim, BaseTransformer.TRIM);
+        BaseLoader loader = load("en.properties", "hi=Hi\n", adapter);
+        assertEquals("Hi!!", loader.get("hi"));
+    }
+
+    @Test
+    void repeatedNonIdempotentTransformersAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BaseI18n.PROPERTIES.withTransformers(BaseTransformer.UNESCAPE, BaseTransformer.UNESCAPE));
+        I18n adapter = new YmlLoader().withTransformers(BaseTransformer.UNESCAPE);
+        assertThrows(IllegalArgumentException.class, () -> adapter.withTransformers(BaseTransformer.UNESCAPE));
+    }
+
+    @Test
+    void yamlScalarsAreUnescapedOnce() throws IOException {
+        I18n adapter = new YmlLoader().withTransformers(BaseTransformer.UNESCAPE, BaseTransformer.HEX_COLOR, BaseTransformer.LEGACY_COLOR);
+        BaseLoader loader = load("en.yml", "motd: '&aWelcome\\nto &#00ff00Lobby'\npath: C:\\\\\\\\temp\n", adapter);
+        assertEquals(List.of("\u00A7aWelcome", "to \u00A7x\u00A70\u00A70\u00A7f\u00A7f\u00A70\u00A70Lobby"), loader.toLines("motd"));
+        assertEquals("C:\\\\temp", loader.get("path"));
+    }
+}